@@ -0,0 +1,87 @@
+package com.workflowhub.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * A burst of requests that each block for a fixed time (a stand-in for a
+ * MySQL round trip), run on a Tomcat-sized platform pool and on virtual
+ * threads. The "pinned" variant blocks while holding a monitor, which is
+ * what synchronized JDBC or mail code does to a virtual thread on Java 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingIoBenchmark {
+
+    // server.tomcat.threads.max default
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({ "platform", "virtual" })
+    public String threads;
+
+    @Param({ "false", "true" })
+    public boolean pinned;
+
+    @Param({ "2000" })
+    public int requests;
+
+    @Param({ "5" })
+    public long blockMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /* Time to finish the whole burst */
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            results.add(executor.submit(() -> handle(n)));
+        }
+
+        int sum = 0;
+        for (Future<Integer> f : results) {
+            sum += f.get();
+        }
+        return sum;
+    }
+
+    private int handle(int n) throws InterruptedException {
+        if (pinned) {
+            Object monitor = new Object();
+            synchronized (monitor) {
+                Thread.sleep(blockMillis);
+            }
+        } else {
+            Thread.sleep(blockMillis);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,75 @@
+package com.workflowhub.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.entity.Workflow;
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/* Jackson cost of the list endpoints, which return Workflow entities with nested users */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkflowSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<Workflow> workflows;
+
+    @Setup
+    public void setup() {
+        // Same defaults Spring Boot's MVC converter uses
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User admin = user(1L, "admin@workflowhub.local", User.Role.ADMIN);
+        workflows = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            User owner = user(100L + i, "user" + i + "@workflowhub.local", User.Role.EMPLOYEE);
+
+            Workflow w = new Workflow();
+            w.setId((long) i);
+            w.setTitle("Laptop request " + i);
+            w.setDescription("Need a replacement laptop for project work, ticket " + i);
+            w.setUser(owner);
+            w.setStatus(i % 2 == 0 ? WorkflowStatus.APPROVED : WorkflowStatus.PENDING);
+            if (w.getStatus() == WorkflowStatus.APPROVED) {
+                w.setApprovedBy(admin);
+                w.setApprovedAt(LocalDateTime.now());
+            }
+            ReflectionTestUtils.setField(w, "createdAt", LocalDateTime.now());
+            workflows.add(w);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeWorkflowList() throws Exception {
+        return mapper.writeValueAsBytes(workflows);
+    }
+
+    private static User user(long id, String email, User.Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail(email);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,61 @@
+package com.workflowhub.backend.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workflowhub.backend.entity.User;
+
+import jakarta.servlet.FilterChain;
+
+/* Full doFilterInternal path for an authenticated API call: denylist probe and token version check */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (req, res) -> { };
+
+    private JwtFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtUtil jwtUtil = SecurityBenchmarks.jwtUtil(SecurityBenchmarks.keyStore(), 10_000);
+        User user = SecurityBenchmarks.user(1L, "bench@workflowhub.local");
+
+        filter = new JwtFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "tokenVersions",
+                SecurityBenchmarks.tokenVersions(user));
+        ReflectionTestUtils.setField(filter, "sessionDenylist",
+                SecurityBenchmarks.sessionDenylist(1_000));
+
+        authorization = "Bearer " + jwtUtil.generateToken(user, SecurityBenchmarks.SESSION_ID);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/api/workflows/my");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,59 @@
+package com.workflowhub.backend.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.workflowhub.backend.entity.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        SigningKeyStore keyStore = SecurityBenchmarks.keyStore();
+        cached = SecurityBenchmarks.jwtUtil(keyStore, 10_000);
+        // A zero-sized cache evicts immediately, so every call parses and verifies
+        uncached = SecurityBenchmarks.jwtUtil(keyStore, 0);
+        user = SecurityBenchmarks.user(1L, "bench@workflowhub.local");
+        token = cached.generateToken(user, SecurityBenchmarks.SESSION_ID);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(user, SecurityBenchmarks.SESSION_ID);
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return cached.extractUsername(token);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        return uncached.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenExpiredCached() {
+        return cached.isTokenExpired(token);
+    }
+
+    @Benchmark
+    public boolean isTokenExpiredUncached() {
+        return uncached.isTokenExpired(token);
+    }
+}
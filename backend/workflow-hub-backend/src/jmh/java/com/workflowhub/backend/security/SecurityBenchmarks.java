@@ -0,0 +1,118 @@
+package com.workflowhub.backend.security;
+
+import java.lang.reflect.Proxy;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workflowhub.backend.entity.SigningKey;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.repository.RevokedSessionRepository;
+import com.workflowhub.backend.repository.SigningKeyRepository;
+import com.workflowhub.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/* Wiring shared by the security benchmarks, without a Spring context */
+final class SecurityBenchmarks {
+
+    static final long EXPIRATION = 36_000_000L;
+    static final String SESSION_ID = "bench-session";
+
+    private SecurityBenchmarks() {
+    }
+
+    static JwtUtil jwtUtil(SigningKeyStore keyStore, long cacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCache",
+                new VerifiedTokenCache(new SimpleMeterRegistry(), cacheSize));
+        ReflectionTestUtils.setField(jwtUtil, "keyStore", keyStore);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    /* Generates its first ES256 key on init, sealed under a throwaway key-encryption key */
+    static SigningKeyStore keyStore() {
+        List<SigningKey> rows = new ArrayList<>();
+        byte[] keyEncryptionKey = new byte[32];
+        new SecureRandom().nextBytes(keyEncryptionKey);
+
+        SigningKeyStore keyStore = new SigningKeyStore();
+        ReflectionTestUtils.setField(keyStore, "signingKeyRepository", stub(SigningKeyRepository.class,
+                (method, args) -> switch (method) {
+                    case "findAllByOrderByActivatesAtAsc" -> List.copyOf(rows);
+                    case "save" -> {
+                        rows.add((SigningKey) args[0]);
+                        yield args[0];
+                    }
+                    default -> null;
+                }));
+        ReflectionTestUtils.setField(keyStore, "tokenLifetimeMillis", EXPIRATION);
+        ReflectionTestUtils.setField(keyStore, "rotationDays", 30L);
+        ReflectionTestUtils.setField(keyStore, "publishAheadMinutes", 60L);
+        ReflectionTestUtils.setField(keyStore, "retainHours", 24L);
+        ReflectionTestUtils.setField(keyStore, "encryptionKey",
+                Base64.getEncoder().encodeToString(keyEncryptionKey));
+        keyStore.init();
+        return keyStore;
+    }
+
+    static User user(long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Bench User " + id);
+        user.setEmail(email);
+        user.setRole(User.Role.EMPLOYEE);
+        return user;
+    }
+
+    /* Warm, as in steady state: the version is loaded once and then cached */
+    static TokenVersionCache tokenVersions(User user) {
+        TokenVersionCache cache = new TokenVersionCache(new SimpleMeterRegistry(), 10_000, 60);
+        ReflectionTestUtils.setField(cache, "userRepository", userRepository(user));
+        cache.isCurrent(user.getId(), user.getTokenVersion());
+        return cache;
+    }
+
+    /* Holds other revoked sessions, so the Bloom filter probe is as loaded as in production */
+    static SessionDenylist sessionDenylist(int revokedSessions) {
+        SessionDenylist denylist = new SessionDenylist();
+        ReflectionTestUtils.setField(denylist, "revokedSessionRepository", stub(RevokedSessionRepository.class,
+                (method, args) -> method.equals("findByExpiresAtAfter") ? List.of() : null));
+        ReflectionTestUtils.setField(denylist, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(denylist, "expectedEntries", 10_000);
+        ReflectionTestUtils.setField(denylist, "falsePositiveRate", 0.01);
+        denylist.load();
+
+        long expiresAt = System.currentTimeMillis() + EXPIRATION;
+        for (int i = 0; i < revokedSessions; i++) {
+            denylist.add("revoked-" + i, expiresAt);
+        }
+        return denylist;
+    }
+
+    /* Repository stub that only answers findTokenVersionById */
+    static UserRepository userRepository(User user) {
+        return stub(UserRepository.class, (method, args) -> method.equals("findTokenVersionById")
+                ? Optional.of(user.getTokenVersion())
+                : null);
+    }
+
+    /* Answers by method name; anything the answer returns null for is unsupported */
+    private static <T> T stub(Class<T> type, BiFunction<String, Object[], Object> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Object result = answer.apply(method.getName(), args);
+                    if (result == null) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return result;
+                }));
+    }
+}
@@ -0,0 +1,26 @@
+package com.workflowhub.backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response only changes when the given
+ * workflow version stamp moves. See ConditionalGetInterceptor.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    Scope value();
+
+    enum Scope {
+        /* Workflows of the calling user */
+        USER,
+        /* The pending approval queue */
+        PENDING,
+        /* Counts across every status */
+        ALL_STATUSES
+    }
+}
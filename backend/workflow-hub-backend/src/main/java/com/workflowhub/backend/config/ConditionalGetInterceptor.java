@@ -0,0 +1,98 @@
+package com.workflowhub.backend.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.security.CustomUserDetails;
+import com.workflowhub.backend.service.WorkflowVersionStamps;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers If-None-Match for @ConditionalGet handlers before they run.
+ *
+ * The ETag is the handler's version stamp plus a checksum of the URI and
+ * query string (cursor, size). When the client already holds it the
+ * request ends here with 304; otherwise the ETag is set and the handler
+ * runs as usual. The stamp is read before the handler reads any data, so
+ * a change racing the request can only make the tag older than the body,
+ * which costs one extra 200 later and never a stale 304.
+ *
+ * Stamp counts repeat across users, so USER tags also carry the principal
+ * id; otherwise a browser reused by another account could be answered 304
+ * for the previous user's body. Vary: Authorization keeps shared caches
+ * from mixing callers up as well.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private WorkflowVersionStamps stamps;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+
+        ConditionalGet conditional = method.getMethodAnnotation(ConditionalGet.class);
+        if (conditional == null) {
+            return true;
+        }
+
+        String stamp = stamp(conditional.value(), request);
+        if (stamp == null) {
+            return true;
+        }
+
+        String etag = "\"" + stamp + "." + Long.toString(checksum(request), 36) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache, private");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified(etag);
+
+        meterRegistry.counter("http.conditional.get",
+                "scope", conditional.value().name(),
+                "result", notModified ? "not_modified" : "full").increment();
+
+        return !notModified;
+    }
+
+    private String stamp(ConditionalGet.Scope scope, HttpServletRequest request) {
+        return switch (scope) {
+            case USER -> {
+                if (request.getUserPrincipal() instanceof Authentication auth
+                        && auth.getPrincipal() instanceof CustomUserDetails details) {
+                    yield "p" + details.getId() + "." + stamps.user(details.getId());
+                }
+                yield null;
+            }
+            case PENDING -> stamps.status(WorkflowStatus.PENDING);
+            case ALL_STATUSES -> stamps.allStatuses();
+        };
+    }
+
+    private static long checksum(HttpServletRequest request) {
+        CRC32 crc = new CRC32();
+        crc.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        if (request.getQueryString() != null) {
+            crc.update('?');
+            crc.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,31 @@
+package com.workflowhub.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.workflowhub.backend.security.LoginThrottle;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Charges the caller's IP bucket for every /api/auth request. A refusal
+ * surfaces as TooManyRequestsException, so it gets the usual 429 body.
+ *
+ * Behind a proxy the remote address is the client's, taken from
+ * X-Forwarded-For by the container when the proxy is listed in
+ * server.tomcat.remoteip.internal-proxies.
+ */
+@Component
+public class LoginThrottleInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        loginThrottle.checkIp(request.getRemoteAddr());
+        return true;
+    }
+}
@@ -1,14 +1,102 @@
 package com.workflowhub.backend.config;
 
+import java.util.Arrays;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
+/**
+ * Password encoding, stored as "{bcrypt}$2a$<cost>$...".
+ *
+ * The cost is part of every hash, so hashes of different costs verify side
+ * by side. A hash whose cost is below the current one, or one stored
+ * before the {bcrypt} prefix existed, reports upgradeEncoding() and is
+ * rehashed on the next successful login.
+ *
+ * Outside test and dev the cost is calibrated at startup: the highest
+ * cost whose measured hash time fits auth.hash.target-ms, never below
+ * MIN_COST. Test and dev use the BCrypt minimum so suites stay cheap; the
+ * hashes still verify in production and get upgraded there.
+ */
 @Configuration
 public class PasswordConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(PasswordConfig.class);
+
+    static final int MIN_COST = 10;
+    static final int MAX_COST = 16;
+
+    // Cheap enough to time a few rounds during startup
+    private static final int PROBE_COST = 8;
+    private static final int PROBE_ROUNDS = 5;
+
+    private static final String ENCODING_ID = "bcrypt";
+
+    @Bean
+    @Profile("!test & !dev")
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.hash.cost:0}") int fixedCost,
+            @Value("${auth.hash.target-ms:250}") long targetMillis
+    ) {
+        int cost = fixedCost > 0 ? fixedCost : calibrate(targetMillis);
+        Gauge.builder("auth.hash.cost", () -> cost).register(meterRegistry);
+        return delegating(cost);
+    }
+
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Profile({"test", "dev"})
+    public PasswordEncoder fastPasswordEncoder() {
+        return delegating(4);
+    }
+
+    static PasswordEncoder delegating(int cost) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        // Hashes stored before the prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /* Each extra cost step doubles the work, so one cheap probe predicts the rest */
+    static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_COST);
+        String hash = probe.encode("calibration");
+
+        long[] nanos = new long[PROBE_ROUNDS];
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.matches("calibration", hash);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double probeMillis = nanos[PROBE_ROUNDS / 2] / 1_000_000.0;
+
+        int cost = costFor(probeMillis, targetMillis);
+        log.info("BCrypt cost {} chosen: cost {} takes {} ms here, target {} ms",
+                cost, PROBE_COST, String.format("%.1f", probeMillis), targetMillis);
+        return cost;
+    }
+
+    static int costFor(double probeMillis, long targetMillis) {
+        int cost = PROBE_COST;
+        double millis = Math.max(probeMillis, 0.01);
+        while (cost < MAX_COST && millis * 2 <= targetMillis) {
+            millis *= 2;
+            cost++;
+        }
+        return Math.max(MIN_COST, cost);
     }
 }
@@ -1,27 +1,67 @@
 package com.workflowhub.backend.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.workflowhub.backend.repository.AuditLogRepository;
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.CursorPage;
 import com.workflowhub.backend.entity.AuditLog;
-
-import java.util.List;
+import com.workflowhub.backend.service.AuditQueryService;
+import com.workflowhub.backend.service.AuditQueryService.ExportFormat;
 
 @RestController
 @RequestMapping("/api/admin/audit")
 public class AdminAuditController {
 
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private AuditQueryService auditQueryService;
 
+    /* =========================
+       SEARCH (KEYSET PAGED)
+       ========================= */
     @GetMapping
-    public List<AuditLog> getAllLogs() {
-        return auditLogRepository.findAll();
+    public CursorPage<AuditLog> search(
+            AuditLogFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return auditQueryService.search(filter, cursor, size);
     }
 
     @GetMapping("/workflow")
-    public List<AuditLog> workflowLogs() {
-        return auditLogRepository.findByEntityType("Workflow");
+    public CursorPage<AuditLog> workflowLogs(
+            AuditLogFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        filter.setEntityType("Workflow");
+        return auditQueryService.search(filter, cursor, size);
+    }
+
+    /* =========================
+       EXPORT (STREAMED)
+       ========================= */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            AuditLogFilter filter,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+
+        MediaType type = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv")
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "audit-logs." + exportFormat.name().toLowerCase();
+
+        StreamingResponseBody body = out -> auditQueryService.export(filter, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
     }
 }
@@ -1,15 +1,35 @@
 package com.workflowhub.backend.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.workflowhub.backend.dto.ApiResponse;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.service.UserService;
+
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    @Autowired
+    private UserService userService;
+
     @GetMapping("/dashboard")
     public String adminDashboard() {
         return "Welcome ADMIN 👑";
     }
+
+    /* The user's current tokens stop working; the next login carries the new role */
+    @PutMapping("/users/{id}/role")
+    public ApiResponse<Void> changeRole(@PathVariable Long id, @RequestParam User.Role role) {
+
+        userService.changeRole(id, role);
+
+        return new ApiResponse<>(true, "Role updated", null);
+    }
 }
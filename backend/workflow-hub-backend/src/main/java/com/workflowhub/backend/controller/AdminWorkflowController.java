@@ -1,6 +1,7 @@
 package com.workflowhub.backend.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -8,8 +9,18 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.validation.Valid;
+
+import com.workflowhub.backend.config.ConditionalGet;
+import com.workflowhub.backend.config.ConditionalGet.Scope;
+import com.workflowhub.backend.dto.BulkDecisionRequest;
+import com.workflowhub.backend.dto.BulkDecisionResult;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.WorkflowSummary;
 import com.workflowhub.backend.entity.Workflow;
+import com.workflowhub.backend.entity.WorkflowStatus;
 import com.workflowhub.backend.service.AdminWorkflowService;
+import com.workflowhub.backend.service.WorkflowSearchIndex;
 
 @RestController
 @RequestMapping("/api/admin/workflows")
@@ -19,25 +30,35 @@ public class AdminWorkflowController {
     @Autowired
     private AdminWorkflowService adminWorkflowService;
 
+    @Autowired
+    private WorkflowSearchIndex searchIndex;
+
     /* =========================
        GET PENDING WORKFLOWS
        ========================= */
     @GetMapping("/pending")
-    public ResponseEntity<List<Workflow>> getPendingWorkflows() {
+    @ConditionalGet(Scope.PENDING)
+    public ResponseEntity<CursorPage<WorkflowSummary>> getPendingWorkflows(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
         return ResponseEntity.ok(
-                adminWorkflowService.getPendingWorkflows()
+                adminWorkflowService.getPendingWorkflows(cursor, size)
         );
     }
 
     /* =========================
        APPROVE
+       Optional ?version= makes the decision fail with 409
+       if the workflow changed after the admin loaded it
        ========================= */
     @PutMapping("/{id}/approve")
     public ResponseEntity<Workflow> approveWorkflow(
             @PathVariable Long id,
+            @RequestParam(required = false) Long version,
             Authentication authentication
     ) {
-        Workflow updated = adminWorkflowService.approveWorkflow(id, authentication);
+        Workflow updated = adminWorkflowService.approveWorkflow(id, version, authentication);
         return ResponseEntity.ok(updated);
     }
 
@@ -47,9 +68,46 @@ public class AdminWorkflowController {
     @PutMapping("/{id}/reject")
     public ResponseEntity<Workflow> rejectWorkflow(
             @PathVariable Long id,
+            @RequestParam(required = false) Long version,
             Authentication authentication
     ) {
-        Workflow updated = adminWorkflowService.rejectWorkflow(id, authentication);
+        Workflow updated = adminWorkflowService.rejectWorkflow(id, version, authentication);
         return ResponseEntity.ok(updated);
     }
+
+    /* =========================
+       BULK APPROVE
+       ========================= */
+    @PutMapping("/bulk/approve")
+    public ResponseEntity<List<BulkDecisionResult>> bulkApprove(
+            @Valid @RequestBody BulkDecisionRequest request,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(
+                adminWorkflowService.bulkDecide(
+                        request.getIds(), WorkflowStatus.APPROVED, authentication)
+        );
+    }
+
+    /* =========================
+       BULK REJECT
+       ========================= */
+    @PutMapping("/bulk/reject")
+    public ResponseEntity<List<BulkDecisionResult>> bulkReject(
+            @Valid @RequestBody BulkDecisionRequest request,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(
+                adminWorkflowService.bulkDecide(
+                        request.getIds(), WorkflowStatus.REJECTED, authentication)
+        );
+    }
+
+    /* =========================
+       REBUILD SEARCH INDEX
+       ========================= */
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildSearchIndex() {
+        return ResponseEntity.ok(Map.of("indexed", searchIndex.rebuild()));
+    }
 }
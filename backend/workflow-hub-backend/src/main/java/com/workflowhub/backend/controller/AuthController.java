@@ -6,7 +6,6 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -14,11 +13,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.workflowhub.backend.dto.LoginRequest;
+import com.workflowhub.backend.dto.RefreshRequest;
 import com.workflowhub.backend.dto.RegisterRequest;
 import com.workflowhub.backend.entity.User;
 import com.workflowhub.backend.entity.User.Role;
 import com.workflowhub.backend.repository.UserRepository;
-import com.workflowhub.backend.security.JwtUtil;
+import com.workflowhub.backend.security.PasswordHasher;
+import com.workflowhub.backend.service.AuthService;
+import com.workflowhub.backend.service.RefreshTokenService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -37,10 +41,13 @@ public class AuthController {
     private UserRepository userRepository;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private AuthService authService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private RefreshTokenService refreshTokenService;
 
     // =========================
     // REGISTER
@@ -55,7 +62,7 @@ public class AuthController {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setRole(Role.EMPLOYEE);
 
 
@@ -68,19 +75,18 @@ public class AuthController {
     // LOGIN (JWT)   
     // =========================
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid email or password"));
-
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            return ResponseEntity.status(401).body("Invalid email or password");
-        }
+        // Throttled per address and account, verified on the hashing pool; failures answer 401
+        User user = authService.authenticate(
+                httpRequest.getRemoteAddr(), request.getEmail(), request.getPassword());
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        RefreshTokenService.Tokens tokens = refreshTokenService.openSession(user);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("token", token);
+        response.put("token", tokens.accessToken());
+        response.put("refreshToken", tokens.refreshToken());
+        response.put("expiresIn", tokens.expiresInSeconds());
         response.put("id", user.getId());
         response.put("name", user.getName());
         response.put("email", user.getEmail());
@@ -89,5 +95,30 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    // =========================
+    // REFRESH (rotates the refresh token)
+    // =========================
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+
+        RefreshTokenService.Tokens tokens = refreshTokenService.refresh(request.getRefreshToken());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", tokens.accessToken());
+        response.put("refreshToken", tokens.refreshToken());
+        response.put("expiresIn", tokens.expiresInSeconds());
+
+        return ResponseEntity.ok(response);
+    }
+
+    // =========================
+    // LOGOUT (this session only)
+    // =========================
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody RefreshRequest request) {
 
+        refreshTokenService.logout(request.getRefreshToken());
+
+        return ResponseEntity.ok("Logged out");
+    }
 }
@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import com.workflowhub.backend.config.ConditionalGet;
+import com.workflowhub.backend.config.ConditionalGet.Scope;
 import com.workflowhub.backend.security.CustomUserDetails;
 import com.workflowhub.backend.service.WorkflowService;
 
@@ -20,12 +22,13 @@ public class DashboardController {
        EMPLOYEE DASHBOARD
        ============================ */
     @GetMapping("/employee")
+    @ConditionalGet(Scope.USER)
     public Map<String, Long> employeeDashboard(Authentication authentication) {
 
         CustomUserDetails userDetails =
                 (CustomUserDetails) authentication.getPrincipal();
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         return workflowService.getUserDashboardSummary(userId);
     }
@@ -34,6 +37,7 @@ public class DashboardController {
        ADMIN DASHBOARD
        ============================ */
     @GetMapping("/admin")
+    @ConditionalGet(Scope.ALL_STATUSES)
     public Map<String, Long> adminDashboard() {
         return workflowService.getAdminDashboardSummary();
     }
@@ -0,0 +1,30 @@
+package com.workflowhub.backend.controller;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.workflowhub.backend.security.SigningKeyStore;
+
+@RestController
+public class JwksController {
+
+    @Autowired
+    private SigningKeyStore keyStore;
+
+    /*
+     * New keys are published well ahead of signing (jwt.keys.publish-ahead-minutes),
+     * so a verifier caching this for a few minutes never misses one
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyStore.jwks());
+    }
+}
@@ -1,13 +1,16 @@
 package com.workflowhub.backend.controller;
 
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.workflowhub.backend.entity.Notification;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.NotificationView;
 import com.workflowhub.backend.security.CustomUserDetails;
 import com.workflowhub.backend.service.NotificationService;
+import com.workflowhub.backend.service.NotificationStreamService;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -16,13 +19,51 @@ public class NotificationController {
     @Autowired
     private NotificationService service;
 
+    @Autowired
+    private NotificationStreamService streamService;
+
     @GetMapping
-    public List<Notification> myNotifications(Authentication auth) {
+    public CursorPage<NotificationView> myNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication auth
+    ) {
+        CustomUserDetails u =
+                (CustomUserDetails) auth.getPrincipal();
+
+        return service.getUserNotifications(u.getUser(), cursor, size);
+    }
+
+    /*
+     * Live feed; reconnects resume from the Last-Event-ID header.
+     * Authenticated like every other endpoint, with the Bearer header:
+     * EventSource cannot set one, so the web client reads the stream with
+     * fetch (src/api/notification_stream.ts).
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            Authentication auth
+    ) {
+        CustomUserDetails u =
+                (CustomUserDetails) auth.getPrincipal();
+
+        return streamService.subscribe(u.getUser(), lastEventId);
+    }
+
+    @PutMapping("/{id}/read")
+    public void markRead(@PathVariable Long id, Authentication auth) {
+        CustomUserDetails u =
+                (CustomUserDetails) auth.getPrincipal();
+
+        service.markRead(id, u.getUser());
+    }
+
+    @PutMapping("/broadcast/{id}/read")
+    public void markBroadcastRead(@PathVariable Long id, Authentication auth) {
         CustomUserDetails u =
                 (CustomUserDetails) auth.getPrincipal();
 
-        return service.getUserNotifications(
-                u.getUser().getId()
-        );
+        service.markBroadcastRead(id, u.getUser());
     }
 }
@@ -1,13 +1,16 @@
 package com.workflowhub.backend.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.workflowhub.backend.dto.ApiResponse;
 import com.workflowhub.backend.dto.UserProfileResponse;
 import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.security.CustomUserDetails;
 import com.workflowhub.backend.service.UserService;
 
 @RestController
@@ -34,4 +37,16 @@ public class UserController {
                 profile
         );
     }
+
+    /* Revokes every token issued to the caller, on all devices */
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(Authentication authentication) {
+
+        CustomUserDetails userDetails =
+                (CustomUserDetails) authentication.getPrincipal();
+
+        userService.revokeTokens(userDetails.getId());
+
+        return new ApiResponse<>(true, "Logged out", null);
+    }
 }
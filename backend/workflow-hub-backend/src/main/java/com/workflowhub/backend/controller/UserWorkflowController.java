@@ -1,19 +1,19 @@
 package com.workflowhub.backend.controller;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import com.workflowhub.backend.config.ConditionalGet;
+import com.workflowhub.backend.config.ConditionalGet.Scope;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.WorkflowSummary;
 import com.workflowhub.backend.entity.User;
 import com.workflowhub.backend.entity.Workflow;
 import com.workflowhub.backend.entity.WorkflowStatus;
 import com.workflowhub.backend.security.CustomUserDetails;
 import com.workflowhub.backend.service.WorkflowService;
-import com.workflowhub.backend.service.NotificationService;
-import com.workflowhub.backend.repository.UserRepository;
 
 @RestController
 @RequestMapping("/api/workflows")
@@ -22,12 +22,6 @@ public class UserWorkflowController {
     @Autowired 
     private WorkflowService workflowService;
 
-    @Autowired
-    private NotificationService notificationService;
-
-    @Autowired
-    private UserRepository userRepository;
-
     /* =========================
        CREATE WORKFLOW
        ========================= */
@@ -44,32 +38,50 @@ public class UserWorkflowController {
 
         workflow.setUser(user);
 
-        Workflow savedWorkflow = workflowService.createWorkflow(workflow);
-
-        // 🔔 Notify only admins (SAFE)
-        List<User> admins = userRepository.findByRole(User.Role.ADMIN);
-
-        for (User admin : admins) {
-            notificationService.notify(
-                admin,
-                "New request submitted by " + user.getName()
-            );
-        }
-
-        return savedWorkflow;
+        // Admins are notified through the outbox, in the same transaction
+        return workflowService.createWorkflow(workflow);
     }
 
     /* =========================
        MY WORKFLOWS
        ========================= */
     @GetMapping("/my")
-    public List<Workflow> myWorkflows(Authentication authentication) {
-
+    @ConditionalGet(Scope.USER)
+    public CursorPage<WorkflowSummary> myWorkflows(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
         CustomUserDetails userDetails =
                 (CustomUserDetails) authentication.getPrincipal();
 
         return workflowService.myWorkflows(
-                userDetails.getUser().getId()
+                userDetails.getId(),
+                cursor,
+                size
         );
     }
+
+    /* =========================
+       SEARCH
+       ========================= */
+    @GetMapping("/search")
+    public CursorPage<WorkflowSummary> search(
+            @RequestParam String q,
+            @RequestParam(required = false) WorkflowStatus status,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        CustomUserDetails userDetails =
+                (CustomUserDetails) authentication.getPrincipal();
+
+        User user = userDetails.getUser();
+
+        // Employees only ever search their own requests
+        Long requester = user.getRole() == User.Role.ADMIN ? userId : user.getId();
+
+        return workflowService.search(q, status, requester, cursor, size);
+    }
 }
@@ -0,0 +1,46 @@
+package com.workflowhub.backend.controller;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.workflowhub.backend.entity.WorkflowTransition;
+import com.workflowhub.backend.service.WorkflowTimelineCache.Timeline;
+import com.workflowhub.backend.service.WorkflowTransitionLog;
+
+@RestController
+@RequestMapping("/api/workflows")
+public class WorkflowTimelineController {
+
+    /* Approved or rejected workflows never change again */
+    private static final CacheControl FINALIZED =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    /* Still pending: clients keep a copy but revalidate it with If-None-Match */
+    private static final CacheControl OPEN =
+            CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private WorkflowTransitionLog transitionLog;
+
+    /*
+     * A matching If-None-Match turns this into a bodiless 304; Spring
+     * compares the ETag below before the body is written.
+     */
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<List<WorkflowTransition>> getTimeline(@PathVariable Long id) {
+        Timeline timeline = transitionLog.timeline(id);
+
+        return ResponseEntity.ok()
+                .eTag(timeline.etag())
+                .cacheControl(timeline.finalized() ? FINALIZED : OPEN)
+                .body(timeline.entries());
+    }
+}
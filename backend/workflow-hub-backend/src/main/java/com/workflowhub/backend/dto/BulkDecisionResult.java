@@ -0,0 +1,27 @@
+package com.workflowhub.backend.dto;
+
+public class BulkDecisionResult {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        NOT_FOUND,
+        NOT_PENDING
+    }
+
+    private Long id;
+    private Outcome outcome;
+
+    public BulkDecisionResult(Long id, Outcome outcome) {
+        this.id = id;
+        this.outcome = outcome;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+}
@@ -0,0 +1,50 @@
+package com.workflowhub.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification as the client sees it, whether it was sent to the user
+ * directly or broadcast to their role. Ids are only unique per type.
+ */
+public class NotificationView {
+
+    public enum Type {
+        DIRECT,
+        BROADCAST
+    }
+
+    private Long id;
+    private Type type;
+    private String message;
+    private boolean readStatus;
+    private LocalDateTime createdAt;
+
+    public NotificationView(Long id, Type type, String message,
+                            boolean readStatus, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.message = message;
+        this.readStatus = readStatus;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isReadStatus() {
+        return readStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
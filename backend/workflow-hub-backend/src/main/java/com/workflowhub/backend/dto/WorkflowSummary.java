@@ -0,0 +1,98 @@
+package com.workflowhub.backend.dto;
+
+import java.time.LocalDateTime;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/**
+ * Read-only row for the workflow list endpoints.
+ * Built straight from a JPQL constructor expression that joins both users,
+ * so a page is one SELECT no matter how many rows it holds.
+ * Keeps the JSON shape of the entity (user / approvedBy objects) minus
+ * everything the lists never show.
+ */
+public class WorkflowSummary {
+
+    public static class UserRef {
+
+        private final Long id;
+        private final String name;
+        private final String email;
+
+        public UserRef(Long id, String name, String email) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final WorkflowStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime approvedAt;
+    private final UserRef user;
+    private final UserRef approvedBy;
+
+    public WorkflowSummary(Long id, String title, String description,
+                           WorkflowStatus status, LocalDateTime createdAt,
+                           LocalDateTime approvedAt,
+                           Long userId, String userName, String userEmail,
+                           Long approverId, String approverName, String approverEmail) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.approvedAt = approvedAt;
+        this.user = new UserRef(userId, userName, userEmail);
+        this.approvedBy = approverId == null
+                ? null
+                : new UserRef(approverId, approverName, approverEmail);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public WorkflowStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getApprovedAt() {
+        return approvedAt;
+    }
+
+    public UserRef getUser() {
+        return user;
+    }
+
+    public UserRef getApprovedBy() {
+        return approvedBy;
+    }
+}
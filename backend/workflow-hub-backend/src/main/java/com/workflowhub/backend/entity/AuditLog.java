@@ -4,7 +4,15 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(
+    name = "audit_logs",
+    indexes = {
+        // Audit queries filter, then keyset order on (created_at, id)
+        @Index(name = "idx_audit_logs_created", columnList = "created_at, id"),
+        @Index(name = "idx_audit_logs_entity_type", columnList = "entity_type, created_at, id"),
+        @Index(name = "idx_audit_logs_performed_by", columnList = "performed_by, created_at, id")
+    }
+)
 public class AuditLog {
 
     @Id
@@ -17,10 +25,13 @@ public class AuditLog {
     private String entityType;    // Workflow, User
     private Long entityId;        // workflowId
 
+    // Partition key on MySQL, see AuditPartitionRepository
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 
     // getters & setters
     public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
 
     public String getAction() { return action; }
     public void setAction(String action) { this.action = action; }
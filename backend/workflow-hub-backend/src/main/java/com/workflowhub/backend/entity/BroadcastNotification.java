@@ -0,0 +1,49 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One notification addressed to every user with a given role.
+ * Read state lives in BroadcastReceipt, one row per user who has read it.
+ */
+@Entity
+@Table(
+    name = "broadcast_notifications",
+    indexes = {
+        @Index(name = "idx_broadcast_role_created", columnList = "audience_role, created_at"),
+        @Index(name = "idx_broadcast_role_id", columnList = "audience_role, id")
+    }
+)
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private User.Role audienceRole;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // getters & setters
+    public Long getId() { return id; }
+
+    public String getMessage() { return message; }
+
+    public void setMessage(String message) { this.message = message; }
+
+    public User.Role getAudienceRole() { return audienceRole; }
+
+    public void setAudienceRole(User.Role audienceRole) { this.audienceRole = audienceRole; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,43 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "broadcast_receipts",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"broadcast_id", "user_id"})
+)
+public class BroadcastReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain ids: receipts are only ever looked up, never navigated
+    @Column(name = "broadcast_id", nullable = false)
+    private Long broadcastId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private LocalDateTime readAt;
+
+    @PrePersist
+    public void onCreate() {
+        readAt = LocalDateTime.now();
+    }
+
+    // getters & setters
+    public Long getId() { return id; }
+
+    public Long getBroadcastId() { return broadcastId; }
+
+    public void setBroadcastId(Long broadcastId) { this.broadcastId = broadcastId; }
+
+    public Long getUserId() { return userId; }
+
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public LocalDateTime getReadAt() { return readAt; }
+}
@@ -4,6 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(
+    name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
+        // SSE resume reads by (user_id, id > ?)
+        @Index(name = "idx_notification_user_id", columnList = "user_id, id")
+    }
+)
 public class Notification {
 
     @Id
@@ -0,0 +1,81 @@
+package com.workflowhub.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * A side effect to run once the transaction that wrote it has committed.
+ *
+ * Rows are inserted through OutboxRepository in the same transaction as
+ * the change that causes them, and drained by OutboxRelay. availableAt
+ * serves both as the retry time and as the claim lease: a relay pushes it
+ * forward when it takes a row, so a relay that dies mid-delivery leaves
+ * the row to be picked up again once the lease runs out.
+ */
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id")
+)
+public class OutboxEvent {
+
+    public enum Status {
+        PENDING,
+        SENT,
+        DEAD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String eventType;
+
+    private Long aggregateId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    protected OutboxEvent() {
+    }
+
+    public Long getId() { return id; }
+
+    public String getEventType() { return eventType; }
+
+    public Long getAggregateId() { return aggregateId; }
+
+    public String getPayload() { return payload; }
+
+    public Status getStatus() { return status; }
+
+    public int getAttempts() { return attempts; }
+
+    public LocalDateTime getAvailableAt() { return availableAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getSentAt() { return sentAt; }
+
+    public String getLastError() { return lastError; }
+}
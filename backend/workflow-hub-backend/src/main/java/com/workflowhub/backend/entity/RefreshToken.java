@@ -0,0 +1,67 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One refresh token, stored as a SHA-256 of the value handed to the
+ * client. Every token rotated out of the same login shares a session id,
+ * which is also embedded in the access tokens issued alongside it.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_session", columnList = "session_id"),
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    // Set once the token is rotated or its session revoked
+    private LocalDateTime revokedAt;
+
+    protected RefreshToken() {
+    }
+
+    public RefreshToken(Long userId, String tokenHash, String sessionId, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.sessionId = sessionId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+
+    public Long getUserId() { return userId; }
+
+    public String getTokenHash() { return tokenHash; }
+
+    public String getSessionId() { return sessionId; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+}
@@ -0,0 +1,42 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A login session whose access tokens must be refused. Kept only until the
+ * last access token it could have issued has expired.
+ */
+@Entity
+@Table(
+    name = "revoked_sessions",
+    indexes = @Index(name = "idx_revoked_sessions_revoked_at", columnList = "revoked_at")
+)
+public class RevokedSession {
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Lets other instances pick up revocations made since their last load
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    protected RevokedSession() {
+    }
+
+    public RevokedSession(String sessionId, LocalDateTime expiresAt) {
+        this.sessionId = sessionId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+
+    public String getSessionId() { return sessionId; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+}
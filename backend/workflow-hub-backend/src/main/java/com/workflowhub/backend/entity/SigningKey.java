@@ -0,0 +1,74 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * One ES256 key pair used to sign access tokens, shared by every node.
+ *
+ * A key is published (JWKS, verification) from the moment it is stored,
+ * signs from activatesAt until its successor activates, and is still
+ * accepted for verification until the tokens it signed have expired.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+public class SigningKey implements Persistable<String> {
+
+    @Id
+    @Column(length = 40)
+    private String kid;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    // X.509 SubjectPublicKeyInfo, Base64
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    // PKCS#8 sealed under the key-encryption key, see SigningKeyStore
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    @Column(nullable = false)
+    private LocalDateTime activatesAt;
+
+    private LocalDateTime createdAt;
+
+    protected SigningKey() {
+    }
+
+    public SigningKey(String kid, String algorithm, String publicKey, String privateKey,
+                      LocalDateTime activatesAt) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.activatesAt = activatesAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getKid() { return kid; }
+
+    @Override
+    public String getId() { return kid; }
+
+    /* Always inserted, never merged: two nodes rotating at once must collide on the kid */
+    @Override
+    public boolean isNew() { return createdAt == null; }
+
+    public String getAlgorithm() { return algorithm; }
+
+    public String getPublicKey() { return publicKey; }
+
+    public String getPrivateKey() { return privateKey; }
+
+    public LocalDateTime getActivatesAt() { return activatesAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -34,6 +34,11 @@ public class User {
 
     private LocalDateTime createdAt;
 
+    // Embedded in issued tokens; bumping it revokes every token already out there
+    @JsonIgnore
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0 NOT NULL")
+    private int tokenVersion;
+
     /* =====================================
        🔥 RELATIONSHIPS (VERY IMPORTANT)
        ===================================== */ 
@@ -76,6 +81,10 @@ public class User {
     public void setRole(Role role) { this.role = role; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public int getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
 
     public List<Workflow> getWorkflows() { return workflows; }
 
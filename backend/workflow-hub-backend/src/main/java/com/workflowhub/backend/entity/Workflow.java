@@ -3,12 +3,21 @@ package com.workflowhub.backend.entity;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.*;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
-@Table(name = "workflows")
+@Table(
+    name = "workflows",
+    indexes = {
+        // "My workflows" and the pending queue: filter, then keyset order on (created_at, id)
+        @Index(name = "idx_workflows_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_workflows_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_workflows_approver_approved", columnList = "approved_by, approved_at")
+    }
+)
 public class Workflow {
 
     @Id
@@ -51,6 +60,15 @@ public class Workflow {
 
     private LocalDateTime approvedAt;
 
+    /* =========================
+       OPTIMISTIC VERSION
+       ========================= */
+    // Bumped by every write, including the conditional status UPDATEs
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -89,4 +107,6 @@ public class Workflow {
     public LocalDateTime getApprovedAt() { return approvedAt; }
 
     public void setApprovedAt(LocalDateTime approvedAt) { this.approvedAt = approvedAt; }
+
+    public Long getVersion() { return version; }
 }
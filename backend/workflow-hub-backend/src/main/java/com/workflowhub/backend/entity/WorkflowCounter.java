@@ -0,0 +1,45 @@
+package com.workflowhub.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Durable copy of one dashboard counter, e.g. "status:PENDING" or
+ * "user:42:APPROVED". The live values are kept in memory by
+ * WorkflowCounterService.
+ */
+@Entity
+@Table(name = "workflow_counters")
+public class WorkflowCounter {
+
+    @Id
+    @Column(name = "counter_key", length = 64)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long counterValue;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public WorkflowCounter() {
+    }
+
+    public WorkflowCounter(String counterKey, long counterValue) {
+        this.counterKey = counterKey;
+        this.counterValue = counterValue;
+    }
+
+    // getters & setters
+    public String getCounterKey() { return counterKey; }
+
+    public long getCounterValue() { return counterValue; }
+    public void setCounterValue(long counterValue) { this.counterValue = counterValue; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
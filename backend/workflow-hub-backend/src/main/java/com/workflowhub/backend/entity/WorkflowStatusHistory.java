@@ -1,46 +0,0 @@
-package com.workflowhub.backend.entity;
-
-import java.time.LocalDateTime;
-
-import jakarta.persistence.*;
-
-@Entity
-@Table(name = "workflow_status_history")
-public class WorkflowStatusHistory {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    // Which workflow
-    @ManyToOne(optional = false)
-    @JoinColumn(name = "workflow_id")
-    private Workflow workflow;
-
-    @Enumerated(EnumType.STRING)
-    private WorkflowStatus status;
-
-    private String actionBy; // email or username
-    private String action;   // CREATED / APPROVED / REJECTED
-
-    private LocalDateTime actionAt;
-
-    /* ===== Getters & Setters ===== */
-
-    public Long getId() { return id; }
-
-    public Workflow getWorkflow() { return workflow; }
-    public void setWorkflow(Workflow workflow) { this.workflow = workflow; }
-
-    public WorkflowStatus getStatus() { return status; }
-    public void setStatus(WorkflowStatus status) { this.status = status; }
-
-    public String getActionBy() { return actionBy; }
-    public void setActionBy(String actionBy) { this.actionBy = actionBy; }
-
-    public String getAction() { return action; }
-    public void setAction(String action) { this.action = action; }
-
-    public LocalDateTime getActionAt() { return actionAt; }
-    public void setActionAt(LocalDateTime actionAt) { this.actionAt = actionAt; }
-}
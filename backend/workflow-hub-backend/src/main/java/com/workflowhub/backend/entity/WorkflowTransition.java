@@ -0,0 +1,80 @@
+package com.workflowhub.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * One row per workflow state change, append-only.
+ *
+ * Rows are written through WorkflowTransitionRepository in the same
+ * transaction as the change they describe and are never updated.
+ * workflow_id is a plain column rather than a relation so appending
+ * never loads the workflow.
+ */
+@Entity
+@Table(
+    name = "workflow_transitions",
+    indexes = @Index(name = "idx_transitions_workflow_created", columnList = "workflow_id, created_at, id")
+)
+public class WorkflowTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "workflow_id", nullable = false)
+    private Long workflowId;
+
+    /* =========================
+       TRANSITION
+       ========================= */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private WorkflowStatus fromStatus;   // null for CREATED
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private WorkflowStatus toStatus;
+
+    @Column(nullable = false, length = 32)
+    private String action;               // CREATED / APPROVED / REJECTED
+
+    private String performedBy;          // email
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    protected WorkflowTransition() {
+    }
+
+    public WorkflowTransition(Long workflowId, WorkflowStatus fromStatus, WorkflowStatus toStatus,
+                              String action, String performedBy, LocalDateTime createdAt) {
+        this.workflowId = workflowId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.action = action;
+        this.performedBy = performedBy;
+        this.createdAt = createdAt;
+    }
+
+    /* =========================
+       GETTERS
+       ========================= */
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public Long getWorkflowId() { return workflowId; }
+
+    public WorkflowStatus getFromStatus() { return fromStatus; }
+
+    public WorkflowStatus getToStatus() { return toStatus; }
+
+    public String getAction() { return action; }
+
+    public String getPerformedBy() { return performedBy; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
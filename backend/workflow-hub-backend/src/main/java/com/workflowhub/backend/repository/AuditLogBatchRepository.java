@@ -0,0 +1,42 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.workflowhub.backend.entity.AuditLog;
+
+/**
+ * Batched audit inserts for the write-behind appender.
+ * Plain JDBC because IDENTITY keys stop Hibernate from batching.
+ */
+@Repository
+public class AuditLogBatchRepository {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    public void insertAll(List<AuditLog> logs) {
+        SqlParameterSource[] batch = logs.stream()
+                .map(l -> new MapSqlParameterSource()
+                        .addValue("action", l.getAction())
+                        .addValue("performedBy", l.getPerformedBy())
+                        .addValue("role", l.getRole())
+                        .addValue("entityType", l.getEntityType())
+                        .addValue("entityId", l.getEntityId())
+                        .addValue("createdAt", l.getCreatedAt() == null
+                                ? null
+                                : Timestamp.valueOf(l.getCreatedAt())))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbc.batchUpdate("""
+                INSERT INTO audit_logs (action, performed_by, role, entity_type, entity_id, created_at)
+                VALUES (:action, :performedBy, :role, :entityType, :entityId, :createdAt)
+                """, batch);
+    }
+}
@@ -0,0 +1,131 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.AuditLog;
+
+/**
+ * Filtered reads over audit_logs, newest first.
+ *
+ * Pages are keyset-paginated on (created_at, id). Exports stream rows
+ * through a callback from a cursor-backed result set, so memory use does
+ * not grow with the size of the export (MySQL needs useCursorFetch=true
+ * on the URL for the fetch size to take effect).
+ */
+@Repository
+public class AuditLogQueryRepository {
+
+    private static final String COLUMNS =
+            "id, action, performed_by, role, entity_type, entity_id, created_at";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamingJdbc;
+
+    public AuditLogQueryRepository(
+            DataSource dataSource,
+            @Value("${audit.export.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    public List<AuditLog> findPage(AuditLogFilter filter, PageCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> where = conditions(filter, params);
+
+        if (after != null) {
+            where.add("(created_at < :afterCreatedAt"
+                    + " OR (created_at = :afterCreatedAt AND id < :afterId))");
+            params.addValue("afterCreatedAt", Timestamp.valueOf(after.getCreatedAt()));
+            params.addValue("afterId", after.getId());
+        }
+        params.addValue("limit", limit);
+
+        return jdbc.query(select(where) + " LIMIT :limit", params, (rs, i) -> map(rs));
+    }
+
+    public void stream(AuditLogFilter filter, Consumer<AuditLog> sink) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> where = conditions(filter, params);
+
+        RowCallbackHandler handler = rs -> sink.accept(map(rs));
+        streamingJdbc.query(select(where), params, handler);
+    }
+
+    /* =========================
+       SQL
+       ========================= */
+
+    private static String select(List<String> where) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM audit_logs");
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+        return sql.append(" ORDER BY created_at DESC, id DESC").toString();
+    }
+
+    private static List<String> conditions(AuditLogFilter filter, MapSqlParameterSource params) {
+        List<String> where = new ArrayList<>();
+
+        if (filter.getFrom() != null) {
+            where.add("created_at >= :from");
+            params.addValue("from", Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            where.add("created_at < :to");
+            params.addValue("to", Timestamp.valueOf(filter.getTo()));
+        }
+        if (filter.getPerformedBy() != null) {
+            where.add("performed_by = :performedBy");
+            params.addValue("performedBy", filter.getPerformedBy());
+        }
+        if (filter.getEntityType() != null) {
+            where.add("entity_type = :entityType");
+            params.addValue("entityType", filter.getEntityType());
+        }
+        if (filter.getEntityId() != null) {
+            where.add("entity_id = :entityId");
+            params.addValue("entityId", filter.getEntityId());
+        }
+        if (filter.getAction() != null) {
+            where.add("action = :action");
+            params.addValue("action", filter.getAction());
+        }
+        return where;
+    }
+
+    private static AuditLog map(ResultSet rs) throws SQLException {
+        AuditLog log = new AuditLog();
+        log.setId(rs.getLong("id"));
+        log.setAction(rs.getString("action"));
+        log.setPerformedBy(rs.getString("performed_by"));
+        log.setRole(rs.getString("role"));
+        log.setEntityType(rs.getString("entity_type"));
+
+        long entityId = rs.getLong("entity_id");
+        log.setEntityId(rs.wasNull() ? null : entityId);
+
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        log.setCreatedAt(createdAt == null ? null : createdAt.toLocalDateTime());
+        return log;
+    }
+}
@@ -0,0 +1,112 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Monthly RANGE partitions on audit_logs.created_at.
+ *
+ * Partitioning is MySQL-only; on any other database (the embedded test
+ * database) {@link #supported()} is false and callers fall back to
+ * deleting rows by range. Partitions are named pYYYYMM and a trailing
+ * pmax catches anything beyond the newest month.
+ */
+@Repository
+public class AuditPartitionRepository {
+
+    private static final String MAX_PARTITION = "pmax";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Boolean mysql;
+
+    public boolean supported() {
+        if (mysql == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(
+                        jdbc.getDataSource(), md -> md.getDatabaseProductName());
+                mysql = product != null && product.toLowerCase().contains("mysql");
+            } catch (MetaDataAccessException e) {
+                return false;
+            }
+        }
+        return mysql;
+    }
+
+    /* Months that currently have their own partition */
+    public Set<YearMonth> months() {
+        List<String> names = jdbc.queryForList("""
+                SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs'
+                  AND PARTITION_NAME IS NOT NULL
+                """, String.class);
+
+        return names.stream()
+                .filter(n -> !MAX_PARTITION.equals(n))
+                .map(n -> YearMonth.of(Integer.parseInt(n.substring(1, 5)),
+                        Integer.parseInt(n.substring(5, 7))))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * One-off conversion of an unpartitioned table. MySQL requires the
+     * partition column in every unique key, so the primary key becomes
+     * (id, created_at); id stays unique through AUTO_INCREMENT.
+     */
+    public void partition(YearMonth first, YearMonth last) {
+        List<String> parts = new ArrayList<>();
+        for (YearMonth m = first; !m.isAfter(last); m = m.plusMonths(1)) {
+            parts.add(definition(m));
+        }
+        parts.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbc.execute("ALTER TABLE audit_logs"
+                + " MODIFY created_at DATETIME(6) NOT NULL,"
+                + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)"
+                + " PARTITION BY RANGE COLUMNS(created_at) ("
+                + String.join(", ", parts) + ")");
+    }
+
+    /* Splits the next month out of pmax */
+    public void addMonth(YearMonth month) {
+        jdbc.execute("ALTER TABLE audit_logs REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + definition(month) + ", "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public void dropMonth(YearMonth month) {
+        jdbc.execute("ALTER TABLE audit_logs DROP PARTITION " + name(month));
+    }
+
+    /* Fallback for unpartitioned tables */
+    public int deleteBefore(LocalDateTime cutoff) {
+        return jdbc.update("DELETE FROM audit_logs WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+
+    public LocalDateTime oldestEntry() {
+        Timestamp oldest = jdbc.queryForObject("SELECT MIN(created_at) FROM audit_logs", Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    private static String definition(YearMonth month) {
+        return "PARTITION " + name(month) + " VALUES LESS THAN ('"
+                + month.plusMonths(1).atDay(1) + " 00:00:00')";
+    }
+
+    private static String name(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+}
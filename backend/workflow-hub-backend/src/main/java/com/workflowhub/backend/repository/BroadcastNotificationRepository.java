@@ -0,0 +1,51 @@
+package com.workflowhub.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.workflowhub.backend.entity.BroadcastNotification;
+import com.workflowhub.backend.entity.User;
+
+public interface BroadcastNotificationRepository
+        extends JpaRepository<BroadcastNotification, Long> {
+
+    @Query("""
+           SELECT b FROM BroadcastNotification b
+           WHERE b.audienceRole = :role AND b.createdAt >= :since
+           ORDER BY b.createdAt DESC, b.id DESC
+           """)
+    List<BroadcastNotification> findPageForAudience(
+            @Param("role") User.Role role,
+            @Param("since") LocalDateTime since,
+            Limit limit
+    );
+
+    @Query("""
+           SELECT b FROM BroadcastNotification b
+           WHERE b.audienceRole = :role AND b.createdAt >= :since
+             AND (b.createdAt < :createdAt
+                  OR (b.createdAt = :createdAt AND b.id < :id))
+           ORDER BY b.createdAt DESC, b.id DESC
+           """)
+    List<BroadcastNotification> findPageForAudienceAfter(
+            @Param("role") User.Role role,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /* SSE resume */
+    Optional<BroadcastNotification> findTopByAudienceRoleOrderByIdDesc(User.Role role);
+
+    List<BroadcastNotification> findTop100ByAudienceRoleAndIdGreaterThanOrderByIdAsc(
+            User.Role role,
+            Long id
+    );
+}
@@ -0,0 +1,25 @@
+package com.workflowhub.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.workflowhub.backend.entity.BroadcastReceipt;
+
+public interface BroadcastReceiptRepository
+        extends JpaRepository<BroadcastReceipt, Long> {
+
+    boolean existsByBroadcastIdAndUserId(Long broadcastId, Long userId);
+
+    @Query("""
+           SELECT r.broadcastId FROM BroadcastReceipt r
+           WHERE r.userId = :userId AND r.broadcastId IN :broadcastIds
+           """)
+    List<Long> findReadBroadcastIds(
+            @Param("userId") Long userId,
+            @Param("broadcastIds") Collection<Long> broadcastIds
+    );
+}
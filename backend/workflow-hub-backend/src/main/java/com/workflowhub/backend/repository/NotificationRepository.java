@@ -1,11 +1,58 @@
 package com.workflowhub.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.workflowhub.backend.entity.Notification;
 
 public interface NotificationRepository
         extends JpaRepository<Notification, Long> {
 
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    /* Filter on the FK column itself; a derived query would LEFT JOIN users and scan */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId
+           ORDER BY n.createdAt DESC, n.id DESC
+           """)
+    List<Notification> findPageByUser(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId
+             AND (n.createdAt < :createdAt
+                  OR (n.createdAt = :createdAt AND n.id < :id))
+           ORDER BY n.createdAt DESC, n.id DESC
+           """)
+    List<Notification> findPageByUserAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /* SSE resume */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId
+           ORDER BY n.id DESC
+           LIMIT 1
+           """)
+    Optional<Notification> findTopByUserIdOrderByIdDesc(@Param("userId") Long userId);
+
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.user.id = :userId AND n.id > :id
+           ORDER BY n.id ASC
+           LIMIT 100
+           """)
+    List<Notification> findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(
+            @Param("userId") Long userId,
+            @Param("id") Long id
+    );
 }
@@ -0,0 +1,150 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes and claims outbox_events.
+ *
+ * Claiming locks the oldest due rows with FOR UPDATE SKIP LOCKED and
+ * moves their available_at past the lease in the same short transaction.
+ * Relays on other nodes skip the locked rows instead of waiting on them,
+ * and once the claim commits the rows are no longer due. Delivery then
+ * runs with no lock held.
+ */
+@Repository
+public class OutboxRepository {
+
+    public record NewEvent(String type, Long aggregateId, String payload) {
+    }
+
+    public record Claimed(Long id, String type, Long aggregateId, String payload,
+                          int attempts, LocalDateTime createdAt) {
+    }
+
+    /* oldestAvailableAt is null when nothing is pending */
+    public record Backlog(long pending, LocalDateTime oldestAvailableAt) {
+    }
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    /* Joins the caller's transaction; without one the event could outlive a rolled-back change */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertAll(List<NewEvent> events, LocalDateTime at) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = events.stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("type", e.type())
+                        .addValue("aggregateId", e.aggregateId())
+                        .addValue("payload", e.payload())
+                        .addValue("at", Timestamp.valueOf(at)))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbc.batchUpdate("""
+                INSERT INTO outbox_events
+                    (event_type, aggregate_id, payload, status, attempts, available_at, created_at)
+                VALUES (:type, :aggregateId, :payload, 'PENDING', 0, :at, :at)
+                """, batch);
+    }
+
+    @Transactional
+    public List<Claimed> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<Claimed> claimed = jdbc.query("""
+                SELECT id, event_type, aggregate_id, payload, attempts, created_at
+                FROM outbox_events
+                WHERE status = 'PENDING' AND available_at <= :now
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """,
+                Map.of("now", Timestamp.valueOf(now), "limit", limit),
+                (rs, i) -> new Claimed(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        (Long) rs.getObject("aggregate_id", Long.class),
+                        rs.getString("payload"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+
+        if (!claimed.isEmpty()) {
+            jdbc.update("UPDATE outbox_events SET available_at = :leaseUntil WHERE id IN (:ids)",
+                    new MapSqlParameterSource()
+                            .addValue("leaseUntil", Timestamp.valueOf(leaseUntil))
+                            .addValue("ids", claimed.stream().map(Claimed::id).toList()));
+        }
+        return claimed;
+    }
+
+    /* Keeps rows still being delivered hidden from other relays */
+    public void extendLease(List<Long> ids, LocalDateTime leaseUntil) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbc.update("UPDATE outbox_events SET available_at = :leaseUntil WHERE id IN (:ids) AND status = 'PENDING'",
+                new MapSqlParameterSource()
+                        .addValue("leaseUntil", Timestamp.valueOf(leaseUntil))
+                        .addValue("ids", ids));
+    }
+
+    public void markSent(List<Long> ids, LocalDateTime at) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbc.update("UPDATE outbox_events SET status = 'SENT', sent_at = :at WHERE id IN (:ids)",
+                new MapSqlParameterSource()
+                        .addValue("at", Timestamp.valueOf(at))
+                        .addValue("ids", ids));
+    }
+
+    /* Retry later, or give up for good when retryAt is null */
+    public void markFailed(Long id, int attempts, LocalDateTime retryAt, String error) {
+        jdbc.update("""
+                UPDATE outbox_events
+                SET attempts = :attempts,
+                    status = :status,
+                    available_at = COALESCE(:retryAt, available_at),
+                    last_error = :error
+                WHERE id = :id
+                """,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("attempts", attempts)
+                        .addValue("status", retryAt == null ? "DEAD" : "PENDING")
+                        .addValue("retryAt", retryAt == null ? null : Timestamp.valueOf(retryAt), Types.TIMESTAMP)
+                        .addValue("error", error));
+    }
+
+    /* Covered by idx_outbox_status_available, so it stays cheap with a deep queue */
+    public Backlog backlog() {
+        return jdbc.queryForObject("""
+                SELECT COUNT(*) AS pending, MIN(available_at) AS oldest
+                FROM outbox_events
+                WHERE status = 'PENDING'
+                """,
+                Map.of(),
+                (rs, i) -> {
+                    Timestamp oldest = rs.getTimestamp("oldest");
+                    return new Backlog(rs.getLong("pending"), oldest == null ? null : oldest.toLocalDateTime());
+                });
+    }
+
+    public int deleteSentBefore(LocalDateTime before) {
+        return jdbc.update("DELETE FROM outbox_events WHERE status = 'SENT' AND sent_at < :before",
+                Map.of("before", Timestamp.valueOf(before)));
+    }
+}
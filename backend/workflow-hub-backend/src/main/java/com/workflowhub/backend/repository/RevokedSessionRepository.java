@@ -0,0 +1,25 @@
+package com.workflowhub.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.RevokedSession;
+
+public interface RevokedSessionRepository
+        extends JpaRepository<RevokedSession, String> {
+
+    List<RevokedSession> findByExpiresAtAfter(LocalDateTime now);
+
+    List<RevokedSession> findByRevokedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedSession s WHERE s.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.workflowhub.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.SigningKey;
+
+public interface SigningKeyRepository
+        extends JpaRepository<SigningKey, String> {
+
+    List<SigningKey> findAllByOrderByActivatesAtAsc();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SigningKey k SET k.privateKey = :privateKey WHERE k.kid = :kid")
+    int updatePrivateKey(@Param("kid") String kid, @Param("privateKey") String privateKey);
+}
@@ -0,0 +1,119 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/**
+ * Set-based writes for admin decisions, single and bulk.
+ * Plain JDBC so a bulk decision is one UPDATE per chunk of ids rather
+ * than a load and save per workflow.
+ *
+ * Decisions are conditional UPDATEs on status = 'PENDING' that also bump
+ * the row version, so of two admins deciding the same workflow exactly
+ * one update matches and the other sees zero rows.
+ */
+@Repository
+public class WorkflowBulkRepository {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    public static class DecisionRow {
+
+        private final Long id;
+        private final WorkflowStatus status;
+        private final String title;
+        private final Long userId;
+        private final String userName;
+        private final String userEmail;
+
+        public DecisionRow(Long id, WorkflowStatus status, String title,
+                           Long userId, String userName, String userEmail) {
+            this.id = id;
+            this.status = status;
+            this.title = title;
+            this.userId = userId;
+            this.userName = userName;
+            this.userEmail = userEmail;
+        }
+
+        public Long getId() { return id; }
+        public WorkflowStatus getStatus() { return status; }
+        public String getTitle() { return title; }
+        public Long getUserId() { return userId; }
+        public String getUserName() { return userName; }
+        public String getUserEmail() { return userEmail; }
+    }
+
+    /* Locks the rows until the surrounding transaction ends */
+    public List<DecisionRow> lockForDecision(Collection<Long> ids) {
+        return jdbc.query("""
+                SELECT w.id, w.status, w.title, u.id AS user_id, u.name, u.email
+                FROM workflows w
+                JOIN users u ON u.id = w.user_id
+                WHERE w.id IN (:ids)
+                FOR UPDATE
+                """,
+                Map.of("ids", ids),
+                (rs, i) -> new DecisionRow(
+                        rs.getLong("id"),
+                        WorkflowStatus.valueOf(rs.getString("status")),
+                        rs.getString("title"),
+                        rs.getLong("user_id"),
+                        rs.getString("name"),
+                        rs.getString("email")
+                ));
+    }
+
+    public int decide(Collection<Long> ids, WorkflowStatus decision,
+                      Long adminId, LocalDateTime decidedAt) {
+        return jdbc.update("""
+                UPDATE workflows
+                SET status = :status, approved_by = :adminId, approved_at = :decidedAt,
+                    version = version + 1
+                WHERE id IN (:ids) AND status = 'PENDING'
+                """,
+                new MapSqlParameterSource()
+                        .addValue("status", decision.name())
+                        .addValue("adminId", adminId)
+                        .addValue("decidedAt", Timestamp.valueOf(decidedAt))
+                        .addValue("ids", ids));
+    }
+
+    /*
+     * Returns 1 if this call made the decision, 0 if the workflow is missing,
+     * already decided or (when expectedVersion is given) changed since it was read.
+     */
+    public int decideOne(Long id, WorkflowStatus decision, Long adminId,
+                         LocalDateTime decidedAt, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("status", decision.name())
+                .addValue("adminId", adminId)
+                .addValue("decidedAt", Timestamp.valueOf(decidedAt));
+
+        String sql = """
+                UPDATE workflows
+                SET status = :status, approved_by = :adminId, approved_at = :decidedAt,
+                    version = version + 1
+                WHERE id = :id AND status = 'PENDING'
+                """;
+
+        if (expectedVersion != null) {
+            sql += " AND version = :version";
+            params.addValue("version", expectedVersion);
+        }
+
+        return jdbc.update(sql, params);
+    }
+}
@@ -0,0 +1,44 @@
+package com.workflowhub.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.WorkflowCounter;
+
+public interface WorkflowCounterRepository
+        extends JpaRepository<WorkflowCounter, String> {
+
+    @Modifying
+    @Transactional
+    @Query("""
+           UPDATE WorkflowCounter c
+           SET c.counterValue = c.counterValue + :delta, c.updatedAt = CURRENT_TIMESTAMP
+           WHERE c.counterKey = :key
+           """)
+    int addDelta(@Param("key") String key, @Param("delta") long delta);
+
+    /*
+     * Version stamps are bumped from afterCommit callbacks, where a joined
+     * transaction has already committed; each bump commits on its own.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("""
+           UPDATE WorkflowCounter c
+           SET c.counterValue = c.counterValue + 1, c.updatedAt = CURRENT_TIMESTAMP
+           WHERE c.counterKey = :key
+           """)
+    int increment(@Param("key") String key);
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+           INSERT INTO workflow_counters (counter_key, counter_value, updated_at)
+           VALUES (:key, 1, CURRENT_TIMESTAMP)
+           """, nativeQuery = true)
+    int insertOne(@Param("key") String key);
+}
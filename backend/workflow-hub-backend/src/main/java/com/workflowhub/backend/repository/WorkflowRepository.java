@@ -1,10 +1,16 @@
 package com.workflowhub.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.workflowhub.backend.dto.WorkflowSummary;
 import com.workflowhub.backend.entity.Workflow;
 import com.workflowhub.backend.entity.WorkflowStatus;
 
@@ -15,23 +21,145 @@ public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
        EMPLOYEE – MY REQUESTS
        =============================== */
 
-    List<Workflow> findByUserIdOrderByCreatedAtDesc(Long userId);
+    /*
+     * Derived "ByUserId" queries join users and filter on u.id, which hides
+     * the user_id column from the index. The explicit queries below compare
+     * the FK column directly so idx_workflows_user_created can serve them.
+     *
+     * List queries project into WorkflowSummary with both users joined in,
+     * instead of loading entities whose EAGER users cost a select per row.
+     * The users are reached through implicit paths: an explicit JOIN alias
+     * makes Hibernate filter on users.id rather than the indexed FK column.
+     */
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.user.id = :userId
+           ORDER BY w.createdAt DESC
+           """)
+    List<WorkflowSummary> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
 
-    long countByUserId(Long userId);
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.user.id = :userId
+           ORDER BY w.createdAt DESC, w.id DESC
+           """)
+    List<WorkflowSummary> findPageByUser(@Param("userId") Long userId, Limit limit);
 
-    long countByUserIdAndStatus(Long userId, WorkflowStatus status);
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.user.id = :userId
+             AND (w.createdAt < :createdAt
+                  OR (w.createdAt = :createdAt AND w.id < :id))
+           ORDER BY w.createdAt DESC, w.id DESC
+           """)
+    List<WorkflowSummary> findPageByUserAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("SELECT COUNT(w) FROM Workflow w WHERE w.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(w) FROM Workflow w WHERE w.user.id = :userId AND w.status = :status")
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") WorkflowStatus status);
 
     /* ===============================
        ADMIN – APPROVAL QUEUE
        =============================== */
 
-    List<Workflow> findByStatusOrderByCreatedAtDesc(WorkflowStatus status);
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.status = :status
+           ORDER BY w.createdAt DESC
+           """)
+    List<WorkflowSummary> findByStatusOrderByCreatedAtDesc(@Param("status") WorkflowStatus status);
+
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.status = :status
+           ORDER BY w.createdAt DESC, w.id DESC
+           """)
+    List<WorkflowSummary> findPageByStatus(@Param("status") WorkflowStatus status, Limit limit);
+
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.status = :status
+             AND (w.createdAt < :createdAt
+                  OR (w.createdAt = :createdAt AND w.id < :id))
+           ORDER BY w.createdAt DESC, w.id DESC
+           """)
+    List<WorkflowSummary> findPageByStatusAfter(
+            @Param("status") WorkflowStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 
     long countByStatus(WorkflowStatus status);
 
+    /* ===============================
+       DASHBOARD COUNTER RECONCILIATION
+       =============================== */
+
+    @Query("SELECT w.status, COUNT(w) FROM Workflow w GROUP BY w.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT w.user.id, w.status, COUNT(w) FROM Workflow w GROUP BY w.user.id, w.status")
+    List<Object[]> countGroupedByUserAndStatus();
+
+    /* ===============================
+       SEARCH – HITS BY ID
+       =============================== */
+
+    /* Loads the rows behind a page of search hits; callers restore rank order */
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email, a.id, a.name, a.email)
+           FROM Workflow w
+           LEFT JOIN w.approvedBy a
+           WHERE w.id IN :ids
+           """)
+    List<WorkflowSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     /* ===============================
        ADMIN – HISTORY
        =============================== */
 
-    List<Workflow> findByApprovedByIdOrderByApprovedAtDesc(Long adminId);
+    @Query("""
+           SELECT new com.workflowhub.backend.dto.WorkflowSummary(
+                      w.id, w.title, w.description, w.status, w.createdAt, w.approvedAt,
+                      w.user.id, w.user.name, w.user.email,
+                      w.approvedBy.id, w.approvedBy.name, w.approvedBy.email)
+           FROM Workflow w
+           WHERE w.approvedBy.id = :adminId
+           ORDER BY w.approvedAt DESC
+           """)
+    List<WorkflowSummary> findByApprovedByIdOrderByApprovedAtDesc(@Param("adminId") Long adminId);
 }
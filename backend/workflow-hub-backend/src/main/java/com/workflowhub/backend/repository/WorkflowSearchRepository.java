@@ -0,0 +1,51 @@
+package com.workflowhub.backend.repository;
+
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/**
+ * Feeds the search index rebuild.
+ *
+ * Rows are streamed in id order from a cursor-backed result set, so the
+ * rebuild never holds more than one fetch of workflows in memory and the
+ * index can append to its postings lists without re-sorting.
+ */
+@Repository
+public class WorkflowSearchRepository {
+
+    /* What the index keeps of a workflow */
+    public record Document(Long id, String title, String description,
+                           WorkflowStatus status, Long userId) {
+    }
+
+    private final JdbcTemplate streamingJdbc;
+
+    public WorkflowSearchRepository(
+            DataSource dataSource,
+            @Value("${search.rebuild.fetch-size:1000}") int fetchSize
+    ) {
+        this.streamingJdbc = new JdbcTemplate(dataSource);
+        this.streamingJdbc.setFetchSize(fetchSize);
+    }
+
+    public void streamAll(Consumer<Document> sink) {
+        streamingJdbc.query(
+                "SELECT id, title, description, status, user_id FROM workflows ORDER BY id",
+                rs -> {
+                    sink.accept(new Document(
+                            rs.getLong("id"),
+                            rs.getString("title"),
+                            rs.getString("description"),
+                            WorkflowStatus.valueOf(rs.getString("status")),
+                            rs.getLong("user_id")
+                    ));
+                });
+    }
+}
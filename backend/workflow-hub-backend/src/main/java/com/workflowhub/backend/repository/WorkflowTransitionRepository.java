@@ -0,0 +1,121 @@
+package com.workflowhub.backend.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+
+/**
+ * Appends to and reads workflow_transitions.
+ *
+ * Inserts go out as one JDBC batch sorted by workflow id, so concurrent
+ * batches touch the (workflow_id, ...) index in the same order and a
+ * bulk decision costs one round trip however many workflows it covers.
+ */
+@Repository
+public class WorkflowTransitionRepository {
+
+    private static final Comparator<WorkflowTransition> BY_WORKFLOW =
+            Comparator.comparing(WorkflowTransition::getWorkflowId)
+                    .thenComparing(WorkflowTransition::getCreatedAt);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    public void appendAll(List<WorkflowTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = transitions.stream()
+                .sorted(BY_WORKFLOW)
+                .map(t -> new MapSqlParameterSource()
+                        .addValue("workflowId", t.getWorkflowId())
+                        .addValue("fromStatus", t.getFromStatus() == null ? null : t.getFromStatus().name())
+                        .addValue("toStatus", t.getToStatus().name())
+                        .addValue("action", t.getAction())
+                        .addValue("performedBy", t.getPerformedBy())
+                        .addValue("createdAt", Timestamp.valueOf(t.getCreatedAt())))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbc.batchUpdate("""
+                INSERT INTO workflow_transitions
+                    (workflow_id, from_status, to_status, action, performed_by, created_at)
+                VALUES (:workflowId, :fromStatus, :toStatus, :action, :performedBy, :createdAt)
+                """, batch);
+    }
+
+    public List<WorkflowTransition> findByWorkflowId(Long workflowId) {
+        return jdbc.query("""
+                SELECT id, workflow_id, from_status, to_status, action, performed_by, created_at
+                FROM workflow_transitions
+                WHERE workflow_id = :workflowId
+                ORDER BY created_at, id
+                """,
+                Map.of("workflowId", workflowId),
+                (rs, i) -> map(rs));
+    }
+
+    /* =========================
+       LEGACY MIGRATION
+       ========================= */
+
+    /*
+     * Copies one workflow id range of a legacy history table. A row is
+     * skipped when the log already holds the same (workflow, status,
+     * action), which makes the copy re-runnable and folds together the
+     * rows both legacy tables recorded for the same change.
+     */
+    public int migrateLegacy(String table, String statusColumn, String actorColumn,
+                             String timeColumn, long fromWorkflowId, long toWorkflowId) {
+        return jdbc.update("""
+                INSERT INTO workflow_transitions
+                    (workflow_id, from_status, to_status, action, performed_by, created_at)
+                SELECT l.workflow_id,
+                       CASE WHEN l.action = 'CREATED' THEN NULL ELSE 'PENDING' END,
+                       l.%1$s, l.action, l.%2$s, COALESCE(l.%3$s, CURRENT_TIMESTAMP)
+                FROM %4$s l
+                WHERE l.workflow_id > :from AND l.workflow_id <= :to
+                  AND l.%1$s IS NOT NULL AND l.action IS NOT NULL
+                  AND NOT EXISTS (
+                      SELECT 1 FROM workflow_transitions t
+                      WHERE t.workflow_id = l.workflow_id
+                        AND t.to_status = l.%1$s
+                        AND t.action = l.action)
+                ORDER BY l.workflow_id, l.%3$s, l.id
+                """.formatted(statusColumn, actorColumn, timeColumn, table),
+                new MapSqlParameterSource()
+                        .addValue("from", fromWorkflowId)
+                        .addValue("to", toWorkflowId));
+    }
+
+    public Long maxWorkflowId(String table) {
+        return jdbc.getJdbcTemplate().queryForObject(
+                "SELECT MAX(workflow_id) FROM " + table, Long.class);
+    }
+
+    private static WorkflowTransition map(ResultSet rs) throws SQLException {
+        String from = rs.getString("from_status");
+
+        WorkflowTransition t = new WorkflowTransition(
+                rs.getLong("workflow_id"),
+                from == null ? null : WorkflowStatus.valueOf(from),
+                WorkflowStatus.valueOf(rs.getString("to_status")),
+                rs.getString("action"),
+                rs.getString("performed_by"),
+                rs.getTimestamp("created_at").toLocalDateTime());
+        t.setId(rs.getLong("id"));
+        return t;
+    }
+}
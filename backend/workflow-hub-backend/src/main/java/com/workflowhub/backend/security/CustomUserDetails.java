@@ -1,5 +1,6 @@
 package com.workflowhub.backend.security;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -9,39 +10,82 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import com.workflowhub.backend.entity.User;
 
+/**
+ * The authenticated caller, built from token claims alone.
+ *
+ * Immutable and holds no entity: JwtFilter creates one per request without
+ * touching the users table. getUser() hands out a detached reference with
+ * the same fields, which is enough to attach as a foreign key or to read
+ * id, name, email, role and join date; anything else needs a real lookup.
+ */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final User.Role role;
+    private final LocalDateTime createdAt;
+    private final int tokenVersion;
+
+    private final List<GrantedAuthority> authorities;
+
+    public CustomUserDetails(Long id, String email, String name, User.Role role,
+                             LocalDateTime createdAt, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.createdAt = createdAt;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.name())); // ADMIN / EMPLOYEE
+    }
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getCreatedAt(), user.getTokenVersion());
     }
 
-    public User getUser() {
-        return user;
+    public Long getId() {
+        return id;
     }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-
-        String role = user.getRole().name(); // ADMIN / EMPLOYEE
+    public String getName() {
+        return name;
+    }
 
-        return List.of(
-            new SimpleGrantedAuthority(role)
-        );
-    }   
+    public User.Role getRole() {
+        return role;
+    }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
 
+    /* A fresh detached copy each call, so callers cannot change the principal */
+    public User getUser() {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setName(name);
+        user.setRole(role);
+        user.setCreatedAt(createdAt);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
 
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
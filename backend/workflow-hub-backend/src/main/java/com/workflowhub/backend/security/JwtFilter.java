@@ -1,6 +1,7 @@
 package com.workflowhub.backend.security;
 
 import java.io.IOException;
+import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -8,9 +9,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.workflowhub.backend.entity.User;
-import com.workflowhub.backend.repository.UserRepository;
-
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +22,10 @@ public class JwtFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserRepository userRepository;
+    private TokenVersionCache tokenVersions;
+
+    @Autowired
+    private SessionDenylist sessionDenylist;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -44,15 +46,26 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                if (!jwtUtil.isTokenExpired(token)
+                // One cached parse covers both the expiry check and the subject
+                Claims claims = jwtUtil.extractAllClaims(token);
+
+                if (claims.getExpiration().after(new Date())
                         && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                    String email = jwtUtil.extractUsername(token);
+                    // In memory; a never-revoked session is answered by the Bloom filter alone
+                    if (sessionDenylist.isRevoked(jwtUtil.extractSessionId(claims))) {
+                        throw new RuntimeException("Session revoked");
+                    }
 
-                    User user = userRepository.findByEmail(email)
-                            .orElseThrow(() -> new RuntimeException("User not found"));
+                    CustomUserDetails userDetails = jwtUtil.toPrincipal(claims);
 
-                    CustomUserDetails userDetails = new CustomUserDetails(user);
+                    if (userDetails == null) {
+                        throw new RuntimeException("Token is missing principal claims");
+                    }
+                    if (!tokenVersions.isCurrent(userDetails.getId(), userDetails.getTokenVersion())) {
+                        // Logged out or role changed since the token was issued
+                        throw new RuntimeException("Token revoked");
+                    }
 
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
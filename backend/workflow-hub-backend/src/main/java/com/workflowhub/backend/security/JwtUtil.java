@@ -1,35 +1,82 @@
 package com.workflowhub.backend.security;
 
 import java.security.Key;
+import java.time.LocalDateTime;
 import java.util.Date;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.workflowhub.backend.entity.User;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
     @Value("${jwt.expiration}")
     private long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Autowired
+    private VerifiedTokenCache tokenCache;
+
+    @Autowired
+    private SigningKeyStore keyStore;
+
+    // Built once; immutable and thread-safe. Keys are looked up per kid
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        // Only our own algorithm; an HS256 token must not be checked against anything
+                        if (!SigningKeyStore.ALGORITHM.equals(header.getAlgorithm())) {
+                            throw new JwtException("Unexpected token algorithm " + header.getAlgorithm());
+                        }
+                        return keyStore.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
+    /* Claims the filter builds the principal from */
+    static final String USER_ID = "uid";
+    static final String ROLE = "role";
+    static final String NAME = "name";
+    static final String JOINED = "joined";
+    static final String TOKEN_VERSION = "tv";
+    static final String SESSION = "sid";
+
+    public String generateToken(User user, String sessionId) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim(USER_ID, user.getId())
+                .claim(ROLE, user.getRole().name())
+                .claim(NAME, user.getName())
+                .claim(TOKEN_VERSION, user.getTokenVersion())
+                .claim(SESSION, sessionId);
+        if (user.getCreatedAt() != null) {
+            builder.claim(JOINED, user.getCreatedAt().toString());
+        }
+
+        SigningKeyStore.Entry key = keyStore.signingKey();
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(key.privateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
@@ -38,14 +85,38 @@ public class JwtUtil {
         return extractAllClaims(token).getSubject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /* Signature is verified once per token; later calls hit the cache */
+    public Claims extractAllClaims(String token) {
+        return tokenCache.get(token, t -> parser.parseClaimsJws(t).getBody());
     }
-    
+
+    public long getExpirationMillis() {
+        return expiration;
+    }
+
+    public String extractSessionId(Claims claims) {
+        return claims.get(SESSION, String.class);
+    }
+
+    /* Null when a claim is missing; every token this class signs carries them all */
+    public CustomUserDetails toPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID, Number.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION, Number.class);
+        String role = claims.get(ROLE, String.class);
+        if (userId == null || tokenVersion == null || role == null) {
+            return null;
+        }
+
+        String joined = claims.get(JOINED, String.class);
+        return new CustomUserDetails(
+                userId.longValue(),
+                claims.getSubject(),
+                claims.get(NAME, String.class),
+                User.Role.valueOf(role),
+                joined == null ? null : LocalDateTime.parse(joined),
+                tokenVersion.intValue());
+    }
+
     public boolean isTokenExpired(String token) {
         return extractAllClaims(token).getExpiration().before(new Date());
     }
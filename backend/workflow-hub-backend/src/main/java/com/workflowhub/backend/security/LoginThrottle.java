@@ -0,0 +1,170 @@
+package com.workflowhub.backend.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workflowhub.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token buckets for the auth endpoints, one per client IP and one per
+ * client IP and email address.
+ *
+ * The IP bucket is charged for every /api/auth request and stops a single
+ * client from hammering the endpoints. The account bucket is charged only
+ * for failed logins and is keyed by address as well, so repeated guesses
+ * against an account are slowed without letting anyone who knows the
+ * email lock its owner out. Buckets refill continuously and are dropped
+ * once idle long enough to be full again, so memory follows the number
+ * of active clients.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Limiter ipLimiter;
+    private final Limiter emailLimiter;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${auth.throttle.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.throttle.ip.per-minute:20}") int ipPerMinute,
+            @Value("${auth.throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.throttle.email.per-minute:1}") int emailPerMinute,
+            @Value("${auth.throttle.max-keys:100000}") long maxKeys
+    ) {
+        this(meterRegistry, ipCapacity, ipPerMinute, emailCapacity, emailPerMinute, maxKeys, System::nanoTime);
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, int ipCapacity, int ipPerMinute,
+                  int emailCapacity, int emailPerMinute, long maxKeys, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.ipLimiter = new Limiter(ipCapacity, ipPerMinute, maxKeys, clock);
+        this.emailLimiter = new Limiter(emailCapacity, emailPerMinute, maxKeys, clock);
+    }
+
+    /* =========================
+       CHECKS
+       ========================= */
+
+    public void checkIp(String ip) {
+        check(ipLimiter, ip, "ip", "Too many requests from this address, try again later");
+    }
+
+    /* Refuses while the account bucket is empty; only failedLogin() takes from it */
+    public void checkEmail(String ip, String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        long waitNanos = emailLimiter.waitNanos(accountKey(ip, email));
+        if (waitNanos > 0) {
+            reject("email", "Too many login attempts for this account, try again later", waitNanos);
+        }
+    }
+
+    public void failedLogin(String ip, String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        emailLimiter.charge(accountKey(ip, email));
+    }
+
+    private static String accountKey(String ip, String email) {
+        return ip + " " + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void check(Limiter limiter, String key, String scope, String message) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            reject(scope, message, waitNanos);
+        }
+    }
+
+    private void reject(String scope, String message, long waitNanos) {
+        meterRegistry.counter("auth.rejected", "reason", scope).increment();
+        throw new TooManyRequestsException(message,
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+    }
+
+    /* =========================
+       BUCKETS
+       ========================= */
+
+    private static final class Limiter {
+
+        private final Cache<String, Bucket> buckets;
+        private final double capacity;
+        private final double tokensPerNano;
+        private final LongSupplier clock;
+
+        Limiter(int capacity, int perMinute, long maxKeys, LongSupplier clock) {
+            this.capacity = capacity;
+            this.tokensPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.clock = clock;
+
+            // An idle bucket is full again after capacity / rate; forgetting it then changes nothing
+            long refillNanos = (long) Math.ceil(capacity / tokensPerNano);
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(refillNanos))
+                    .ticker(clock::getAsLong)
+                    .build();
+        }
+
+        /* 0 when a token was taken, otherwise nanos until the next one */
+        long tryAcquire(String key) {
+            return bucket(key).tryAcquire(clock.getAsLong(), capacity, tokensPerNano);
+        }
+
+        /* Like tryAcquire, but leaves the token in the bucket */
+        long waitNanos(String key) {
+            Bucket bucket = buckets.getIfPresent(key);
+            return bucket == null ? 0 : bucket.waitNanos(clock.getAsLong(), capacity, tokensPerNano);
+        }
+
+        void charge(String key) {
+            bucket(key).tryAcquire(clock.getAsLong(), capacity, tokensPerNano);
+        }
+
+        private Bucket bucket(String key) {
+            return buckets.get(key, k -> new Bucket(capacity, clock.getAsLong()));
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(long now, double capacity, double tokensPerNano) {
+            long waitNanos = waitNanos(now, capacity, tokensPerNano);
+            if (waitNanos == 0) {
+                tokens -= 1;
+            }
+            return waitNanos;
+        }
+
+        synchronized long waitNanos(long now, double capacity, double tokensPerNano) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.workflowhub.backend.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.workflowhub.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt hashing and verification on a small, bounded pool.
+ *
+ * BCrypt is deliberately CPU-bound. On the request threads a burst of
+ * logins would take every core; here at most `threads` hashes run at once
+ * and at most `queue-capacity` wait. Anything beyond that is refused
+ * with 429 straight away instead of queueing behind work that would time
+ * out anyway, so the rest of the API keeps its CPU.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder encoder;
+
+    private final ThreadPoolExecutor pool;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer waitTimer;
+    private final Counter busyCounter;
+
+    public PasswordHasher(
+            PasswordEncoder encoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.hash.threads:0}") int threads,
+            @Value("${auth.hash.queue-capacity:64}") int queueCapacity
+    ) {
+        this.encoder = encoder;
+
+        // Half the cores by default, leaving the rest to ordinary requests
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hash-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.hash.queue.depth", pool, p -> p.getQueue().size())
+                .description("Hash requests waiting for a worker")
+                .register(meterRegistry);
+
+        this.encodeTimer = Timer.builder("auth.hash.latency")
+                .tag("op", "encode")
+                .description("Time spent computing one BCrypt hash")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("auth.hash.latency")
+                .tag("op", "match")
+                .description("Time spent computing one BCrypt hash")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.hash.wait")
+                .description("Time a hash request waited in the queue")
+                .register(meterRegistry);
+        this.busyCounter = meterRegistry.counter("auth.rejected", "reason", "hasher_busy");
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /* =========================
+       OPERATIONS
+       ========================= */
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /* Reads the cost out of the hash; no hashing, so it stays on the caller */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueDepth() {
+        return pool.getQueue().size();
+    }
+
+    private <T> T run(Timer timer, Callable<T> work) {
+        long queuedAt = System.nanoTime();
+
+        Future<T> result;
+        try {
+            result = pool.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            busyCounter.increment();
+            throw new TooManyRequestsException("The server is busy, try again shortly", 1);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
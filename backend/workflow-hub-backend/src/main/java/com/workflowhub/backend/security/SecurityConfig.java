@@ -1,5 +1,7 @@
 package com.workflowhub.backend.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -27,8 +29,14 @@ public class SecurityConfig {
             .and()
 
             .authorizeHttpRequests(auth -> auth
+            	    // SSE responses finish on an async dispatch; the original request was already authorized
+            	    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
             	    .requestMatchers("/api/auth/**").permitAll()
 
+            	    // Public halves of the token signing keys, for verifiers elsewhere
+            	    .requestMatchers("/.well-known/jwks.json").permitAll()
+
             	    .requestMatchers("/api/workflows/**")
             	        .hasAnyAuthority("EMPLOYEE", "ADMIN")
 
@@ -0,0 +1,219 @@
+package com.workflowhub.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.workflowhub.backend.entity.RevokedSession;
+import com.workflowhub.backend.repository.RevokedSessionRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Login sessions whose access tokens are refused, checked by JwtFilter on
+ * every request.
+ *
+ * A Bloom filter sits in front of an exact map. Almost every token belongs
+ * to a session that was never revoked, and the filter says so with a few
+ * bit probes. A positive is confirmed against the map, so false positives
+ * cost a hash lookup and never a wrong 401.
+ *
+ * Bloom filters cannot delete. The scheduled purge drops expired entries
+ * from the map and the table, then rebuilds the filter from what is left.
+ * Revocations and rebuilds share a lock, so a rebuild cannot lose an entry
+ * added while it runs.
+ *
+ * The set is loaded from revoked_sessions at startup, and each purge also
+ * loads rows revoked since the previous load, so a logout on another
+ * instance is honoured here within one purge interval. The window
+ * overlaps the previous one to cover clock skew and late commits; adding
+ * a known session again is harmless.
+ */
+@Component
+public class SessionDenylist {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionDenylist.class);
+
+    @Autowired
+    private RevokedSessionRepository revokedSessionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.denylist.expected-entries:10000}")
+    private int expectedEntries;
+
+    @Value("${jwt.denylist.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Session id -> epoch millis after which no access token of it is valid
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private volatile BloomFilter bloom;
+
+    // Start of the last load from the table; only touched by load() and purge()
+    private LocalDateTime loadedAt;
+
+    @PostConstruct
+    public void load() {
+        loadedAt = LocalDateTime.now();
+        long now = System.currentTimeMillis();
+        for (RevokedSession session : revokedSessionRepository.findByExpiresAtAfter(loadedAt)) {
+            long expiresAt = toMillis(session.getExpiresAt());
+            if (expiresAt > now) {
+                revoked.put(session.getSessionId(), expiresAt);
+            }
+        }
+        rebuild();
+
+        Gauge.builder("jwt.denylist.size", revoked, Map::size)
+                .description("Revoked sessions still within access token lifetime")
+                .register(meterRegistry);
+        log.info("Session denylist loaded with {} entries", revoked.size());
+    }
+
+    /* =========================
+       HOT PATH
+       ========================= */
+
+    public boolean isRevoked(String sessionId) {
+        if (sessionId == null || !bloom.mightContain(sessionId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(sessionId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /* =========================
+       REVOCATION
+       ========================= */
+
+    public void revoke(String sessionId, LocalDateTime until) {
+        revokedSessionRepository.save(new RevokedSession(sessionId, until));
+        add(sessionId, toMillis(until));
+    }
+
+    synchronized void add(String sessionId, long expiresAt) {
+        // Map first: whoever sees the filter bit must also find the entry
+        revoked.merge(sessionId, expiresAt, Math::max);
+
+        if (revoked.size() > bloom.capacity) {
+            rebuild();
+        } else {
+            bloom.add(sessionId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.denylist.purge-ms:60000}")
+    public void purge() {
+        LocalDateTime since = loadedAt.minus(SYNC_OVERLAP);
+        loadedAt = LocalDateTime.now();
+        List<RevokedSession> recent =
+                revokedSessionRepository.findByRevokedAtAfterAndExpiresAtAfter(since, loadedAt);
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (RevokedSession session : recent) {
+                revoked.merge(session.getSessionId(), toMillis(session.getExpiresAt()), Math::max);
+            }
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            rebuild();
+        }
+        revokedSessionRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private synchronized void rebuild() {
+        BloomFilter fresh = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(fresh::add);
+        bloom = fresh;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /* =========================
+       BLOOM FILTER
+       ========================= */
+
+    static final class BloomFilter {
+
+        final int capacity;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashes;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+
+            double ln2 = Math.log(2);
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.bitCount = Math.max(64, m);
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.hashes = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+        }
+
+        void add(String key) {
+            long h = hash(key);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // Lost a race on another bit of the same word; retry
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long h = hash(key);
+            int h1 = (int) h;
+            int h2 = (int) (h >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /* 64-bit FNV-1a with a final avalanche, split into two 32-bit hashes */
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.workflowhub.backend.security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.workflowhub.backend.entity.SigningKey;
+import com.workflowhub.backend.repository.SigningKeyRepository;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ES256 key pairs for access tokens, rotated on a schedule and shared by
+ * every node through jwt_signing_keys.
+ *
+ * A new key is stored publishAhead before it starts signing, so every
+ * node and every JWKS cache has its public half before the first token
+ * signed with it shows up. The old key stops signing when the new one
+ * activates and stays verifiable for one more token lifetime. Keys are
+ * numbered; when two nodes rotate at once they collide on the same kid
+ * and the loser just reloads.
+ *
+ * Private halves are stored sealed with AES-256-GCM under a key-encryption
+ * key from the environment (jwt.keys.encryption-key), bound to their kid,
+ * so a copy of the table alone cannot mint tokens. Public halves stay in
+ * the clear for verification and JWKS. Rows stored before sealing are
+ * sealed in place on the next load.
+ *
+ * Lookups read an immutable snapshot, so the verifier for a kid is one
+ * map read. An unknown kid triggers at most one reload per
+ * UNKNOWN_KID_RELOAD, for tokens signed by a key another node just added.
+ */
+@Component
+public class SigningKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyStore.class);
+
+    static final String ALGORITHM = "ES256";
+
+    private static final String KID_PREFIX = "es256-";
+    private static final Duration UNKNOWN_KID_RELOAD = Duration.ofSeconds(30);
+
+    private static final String SEALED_PREFIX = "v1:";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private SigningKeyRepository signingKeyRepository;
+
+    @Value("${jwt.expiration}")
+    private long tokenLifetimeMillis;
+
+    @Value("${jwt.keys.rotation-days:30}")
+    private long rotationDays;
+
+    @Value("${jwt.keys.publish-ahead-minutes:60}")
+    private long publishAheadMinutes;
+
+    @Value("${jwt.keys.retain-hours:24}")
+    private long retainHours;
+
+    // Base64 of 32 random bytes
+    @Value("${jwt.keys.encryption-key:}")
+    private String encryptionKey;
+
+    private SecretKey keyEncryptionKey;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+    private volatile long lastReloadNanos;
+
+    public record Entry(String kid, ECPublicKey publicKey, PrivateKey privateKey,
+                        LocalDateTime activatesAt, LocalDateTime retiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        keyEncryptionKey = keyEncryptionKey(encryptionKey);
+        reload();
+        if (snapshot.entries.isEmpty()) {
+            // First start: sign straight away, there is nothing to overlap with
+            insert(1, LocalDateTime.now());
+        }
+    }
+
+    /* =========================
+       LOOKUPS
+       ========================= */
+
+    public Entry signingKey() {
+        return snapshot.signing(LocalDateTime.now());
+    }
+
+    public ECPublicKey verificationKey(String kid) {
+        if (kid == null) {
+            throw new JwtException("Token has no key id");
+        }
+
+        Entry entry = snapshot.byKid.get(kid);
+        if (entry == null && System.nanoTime() - lastReloadNanos > UNKNOWN_KID_RELOAD.toNanos()) {
+            reload();
+            entry = snapshot.byKid.get(kid);
+        }
+        if (entry == null || !verifiable(entry, LocalDateTime.now())) {
+            throw new JwtException("Unknown or retired signing key " + kid);
+        }
+        return entry.publicKey();
+    }
+
+    /* Public halves of every key still accepted, as a JWK Set */
+    public Map<String, Object> jwks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (Entry entry : snapshot.entries) {
+            if (verifiable(entry, now)) {
+                keys.add(toJwk(entry));
+            }
+        }
+        return Map.of("keys", keys);
+    }
+
+    /* =========================
+       ROTATION
+       ========================= */
+
+    @Scheduled(fixedDelayString = "${jwt.keys.check-ms:600000}")
+    public void refresh() {
+        reload();
+        rotateIfDue(LocalDateTime.now());
+    }
+
+    synchronized void rotateIfDue(LocalDateTime now) {
+        List<Entry> entries = snapshot.entries;
+        Entry newest = entries.get(entries.size() - 1);
+
+        LocalDateTime nextActivation = newest.activatesAt().plusDays(rotationDays);
+        if (now.isBefore(nextActivation.minusMinutes(publishAheadMinutes))) {
+            return;
+        }
+
+        LocalDateTime activatesAt = now.plusMinutes(publishAheadMinutes);
+        if (nextActivation.isAfter(activatesAt)) {
+            activatesAt = nextActivation;
+        }
+        insert(sequence(newest.kid()) + 1, activatesAt);
+
+        // Keys nobody can present a valid token for any more
+        for (Entry entry : snapshot.entries) {
+            if (entry.retiresAt() != null && entry.retiresAt()
+                    .plus(Duration.ofMillis(tokenLifetimeMillis)).plusHours(retainHours).isBefore(now)) {
+                signingKeyRepository.deleteById(entry.kid());
+            }
+        }
+        reload();
+    }
+
+    private void insert(int sequence, LocalDateTime activatesAt) {
+        String kid = KID_PREFIX + String.format("%04d", sequence);
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair pair = generator.generateKeyPair();
+
+            signingKeyRepository.save(new SigningKey(kid, ALGORITHM,
+                    Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()),
+                    seal(kid, pair.getPrivate().getEncoded()),
+                    activatesAt));
+            log.info("Generated signing key {}, signing from {}", kid, activatesAt);
+
+        } catch (DataIntegrityViolationException e) {
+            log.info("Signing key {} was generated by another node", kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate an ES256 key pair", e);
+        }
+        reload();
+    }
+
+    /* =========================
+       SNAPSHOT
+       ========================= */
+
+    synchronized void reload() {
+        List<SigningKey> rows = signingKeyRepository.findAllByOrderByActivatesAtAsc();
+
+        List<Entry> entries = new ArrayList<>(rows.size());
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            for (int i = 0; i < rows.size(); i++) {
+                SigningKey row = rows.get(i);
+                LocalDateTime retiresAt = i + 1 < rows.size() ? rows.get(i + 1).getActivatesAt() : null;
+
+                byte[] pkcs8;
+                if (row.getPrivateKey().startsWith(SEALED_PREFIX)) {
+                    pkcs8 = unseal(row.getKid(), row.getPrivateKey());
+                } else {
+                    pkcs8 = Base64.getDecoder().decode(row.getPrivateKey());
+                    signingKeyRepository.updatePrivateKey(row.getKid(), seal(row.getKid(), pkcs8));
+                    log.info("Sealed the stored private half of signing key {}", row.getKid());
+                }
+
+                entries.add(new Entry(
+                        row.getKid(),
+                        (ECPublicKey) factory.generatePublic(
+                                new X509EncodedKeySpec(Base64.getDecoder().decode(row.getPublicKey()))),
+                        factory.generatePrivate(new PKCS8EncodedKeySpec(pkcs8)),
+                        row.getActivatesAt(),
+                        retiresAt));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decode stored signing keys", e);
+        }
+
+        snapshot = new Snapshot(entries);
+        lastReloadNanos = System.nanoTime();
+    }
+
+    /* =========================
+       SEALING
+       ========================= */
+
+    private static SecretKey keyEncryptionKey(String base64) {
+        byte[] raw = base64 == null || base64.isBlank() ? new byte[0] : Base64.getDecoder().decode(base64.trim());
+        if (raw.length != 32) {
+            throw new IllegalStateException("jwt.keys.encryption-key (JWT_KEY_ENCRYPTION_KEY) must be "
+                    + "the Base64 of 32 random bytes, e.g. openssl rand -base64 32; "
+                    + "for local runs, start with the dev profile instead");
+        }
+        return new SecretKeySpec(raw, "AES");
+    }
+
+    /* "v1:" + Base64(iv || ciphertext || tag); the kid is the associated data */
+    private String seal(String kid, byte[] pkcs8) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            RANDOM.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(pkcs8);
+
+            byte[] out = new byte[IV_BYTES + sealed.length];
+            System.arraycopy(iv, 0, out, 0, IV_BYTES);
+            System.arraycopy(sealed, 0, out, IV_BYTES, sealed.length);
+            return SEALED_PREFIX + Base64.getEncoder().encodeToString(out);
+
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot seal signing key " + kid, e);
+        }
+    }
+
+    private byte[] unseal(String kid, String stored) throws GeneralSecurityException {
+        byte[] in = Base64.getDecoder().decode(stored.substring(SEALED_PREFIX.length()));
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, in, 0, IV_BYTES));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(in, IV_BYTES, in.length - IV_BYTES);
+    }
+
+    private boolean verifiable(Entry entry, LocalDateTime now) {
+        return entry.retiresAt() == null
+                || entry.retiresAt().plus(Duration.ofMillis(tokenLifetimeMillis)).isAfter(now);
+    }
+
+    private static int sequence(String kid) {
+        return Integer.parseInt(kid.substring(KID_PREFIX.length()));
+    }
+
+    private static final class Snapshot {
+
+        final List<Entry> entries;
+        final Map<String, Entry> byKid = new HashMap<>();
+
+        Snapshot(List<Entry> entries) {
+            this.entries = List.copyOf(entries);
+            entries.forEach(e -> byKid.put(e.kid(), e));
+        }
+
+        /* Newest key already active; before the first activation, the oldest */
+        Entry signing(LocalDateTime now) {
+            Entry current = null;
+            for (Entry entry : entries) {
+                if (!entry.activatesAt().isAfter(now)) {
+                    current = entry;
+                }
+            }
+            if (current == null) {
+                if (entries.isEmpty()) {
+                    throw new IllegalStateException("No signing key loaded");
+                }
+                current = entries.get(0);
+            }
+            return current;
+        }
+    }
+
+    /* =========================
+       JWK
+       ========================= */
+
+    static Map<String, Object> toJwk(Entry entry) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("alg", ALGORITHM);
+        jwk.put("use", "sig");
+        jwk.put("kid", entry.kid());
+        jwk.put("x", coordinate(entry.publicKey().getW().getAffineX()));
+        jwk.put("y", coordinate(entry.publicKey().getW().getAffineY()));
+        return jwk;
+    }
+
+    /* Unsigned, big-endian, left-padded to the 32-byte field size */
+    private static String coordinate(BigInteger value) {
+        byte[] raw = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int copy = Math.min(raw.length, 32);
+        System.arraycopy(raw, raw.length - copy, fixed, 32 - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,59 @@
+package com.workflowhub.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workflowhub.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Current token version per user, so JwtFilter can reject revoked tokens
+ * without a query per request.
+ *
+ * Changes made here are invalidated right after they commit. Entries also
+ * expire after a short TTL, which bounds how long another instance can go
+ * on accepting a revoked token.
+ */
+@Component
+public class TokenVersionCache {
+
+    // Unknown users: no token version can ever match
+    static final int NO_USER = -1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Cache<Long, Integer> cache;
+
+    public TokenVersionCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.token-version.cache.max-size:100000}") long maxSize,
+            @Value("${jwt.token-version.cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // jwt.token_version cache.gets{result=hit|miss}, cache.size, cache.evictions
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.token_version");
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return cache.get(userId, id -> userRepository.findTokenVersionById(id).orElse(NO_USER))
+                == tokenVersion;
+    }
+
+    /* Call after the version change has committed */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -1,152 +1,248 @@
 package com.workflowhub.backend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflowhub.backend.dto.BulkDecisionResult;
+import com.workflowhub.backend.dto.BulkDecisionResult.Outcome;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.WorkflowSummary;
 import com.workflowhub.backend.entity.Workflow;
 import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
 import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.exception.InvalidRequestException;
+import com.workflowhub.backend.repository.OutboxRepository.NewEvent;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
+import com.workflowhub.backend.repository.WorkflowBulkRepository.DecisionRow;
 import com.workflowhub.backend.repository.WorkflowRepository;
 import com.workflowhub.backend.security.CustomUserDetails;
 
 @Service
 public class AdminWorkflowService {
 
+    public static final int MAX_BULK_IDS = 1000;
+
+    /* Keeps IN (...) lists to a size every driver handles comfortably */
+    private static final int IN_CHUNK = 500;
+
     @Autowired
     private WorkflowRepository workflowRepository;
 
     @Autowired
-    private NotificationService notificationService;
+    private WorkflowBulkRepository bulkRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private WorkflowCounterService counterService;
+
+    @Autowired
+    private WorkflowSearchIndex searchIndex;
 
     @Autowired
-    private MailService mailService;
+    private WorkflowTransitionLog transitionLog;
 
     /* ===============================
        APPROVE WORKFLOW
        =============================== */
-    public Workflow approveWorkflow(Long id, Authentication authentication) {
-
-        Workflow workflow = workflowRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Workflow not found"));
+    @Transactional
+    public Workflow approveWorkflow(Long id, Long expectedVersion, Authentication authentication) {
 
         CustomUserDetails userDetails =
                 (CustomUserDetails) authentication.getPrincipal();
 
         User admin = userDetails.getUser();
 
-        workflow.setStatus(WorkflowStatus.APPROVED);
-        workflow.setApprovedBy(admin);
-        workflow.setApprovedAt(java.time.LocalDateTime.now());
+        // Conditional update; throws ConflictException if another decision got there first
+        Workflow workflow = workflowService.approve(id, admin, expectedVersion);
 
-        Workflow saved = workflowRepository.save(workflow);
+        notifyDecision(workflow, WorkflowStatus.APPROVED);
 
-        User employee = workflow.getUser();
+        return workflow;
+    }
 
-        if (employee != null) {
+    /* ===============================
+       REJECT WORKFLOW
+       =============================== */
+    @Transactional
+    public Workflow rejectWorkflow(Long id, Long expectedVersion, Authentication authentication) {
 
-            // 🔍 DEBUG – Check email value
-            System.out.println("Sending mail to: " + employee.getEmail());
+        CustomUserDetails userDetails =
+                (CustomUserDetails) authentication.getPrincipal();
 
-            // 🔔 In-App Notification
-            notificationService.notify(
-                    employee,
-                    "Your request '" + workflow.getTitle() + "' was APPROVED"
-            );
+        User admin = userDetails.getUser();
 
-            // 📧 Send Email
-            try {
-                if (employee.getEmail() != null && !employee.getEmail().isBlank()) {
+        // Conditional update; throws ConflictException if another decision got there first
+        Workflow workflow = workflowService.reject(id, admin, expectedVersion);
 
-                    mailService.sendApprovalMail(
-                            employee.getEmail().trim(),   // trim safety
-                            employee.getName(),
-                            "APPROVED"
-                    );
+        notifyDecision(workflow, WorkflowStatus.REJECTED);
 
-                    System.out.println("Mail send triggered successfully");
+        return workflow;
+    }
 
-                } else {
-                    System.out.println("User email is null or blank. Skipping mail.");
-                }
+    /* In-app notification and mail, written to the outbox with the decision itself */
+    private void notifyDecision(Workflow workflow, WorkflowStatus decision) {
+        User employee = workflow.getUser();
+        if (employee == null) {
+            return;
+        }
 
-            } catch (Exception e) {
-                System.out.println("Email sending failed: " + e.getMessage());
-                e.printStackTrace();
-            }
-        } else {
-            System.out.println("Workflow user is null. Cannot send email.");
+        List<NewEvent> events = new ArrayList<>(2);
+        events.add(outboxService.event(
+                NotificationOutboxHandler.TYPE, workflow.getId(),
+                NotificationOutboxHandler.Payload.of(
+                        employee.getId(),
+                        "Your request '" + workflow.getTitle() + "' was " + decision.name())));
+
+        if (employee.getEmail() != null && !employee.getEmail().isBlank()) {
+            events.add(outboxService.event(
+                    ApprovalMailOutboxHandler.TYPE, workflow.getId(),
+                    new ApprovalMailOutboxHandler.Payload(
+                            employee.getEmail().trim(), employee.getName(), decision.name())));
         }
 
-        return saved;
+        outboxService.enqueueAll(events);
     }
 
     /* ===============================
-       REJECT WORKFLOW
+       BULK APPROVE / REJECT
        =============================== */
-    public Workflow rejectWorkflow(Long id, Authentication authentication) {
+    @Transactional
+    public List<BulkDecisionResult> bulkDecide(
+            List<Long> ids,
+            WorkflowStatus decision,
+            Authentication authentication
+    ) {
+        if (decision != WorkflowStatus.APPROVED && decision != WorkflowStatus.REJECTED) {
+            throw new InvalidRequestException("Unsupported decision: " + decision);
+        }
 
-        Workflow workflow = workflowRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Workflow not found"));
+        List<Long> uniqueIds = ids == null
+                ? List.of()
+                : ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        if (uniqueIds.isEmpty() || uniqueIds.size() > MAX_BULK_IDS) {
+            throw new InvalidRequestException(
+                    "Between 1 and " + MAX_BULK_IDS + " workflow ids are required");
+        }
 
         CustomUserDetails userDetails =
                 (CustomUserDetails) authentication.getPrincipal();
 
         User admin = userDetails.getUser();
+        LocalDateTime now = LocalDateTime.now();
 
-        workflow.setStatus(WorkflowStatus.REJECTED);
-        workflow.setApprovedBy(admin);
-        workflow.setApprovedAt(java.time.LocalDateTime.now());
-
-        Workflow saved = workflowRepository.save(workflow);
-
-        User employee = workflow.getUser();
-
-        if (employee != null) {
-
-            // 🔍 DEBUG – Check email value
-            System.out.println("Sending mail to: " + employee.getEmail());
-
-            // 🔔 In-App Notification
-            notificationService.notify(
-                    employee,
-                    "Your request '" + workflow.getTitle() + "' was REJECTED"
-            );
+        // 1. Lock and read the current state of every requested row
+        Map<Long, DecisionRow> rowsById = new HashMap<>();
+        for (List<Long> chunk : chunks(uniqueIds)) {
+            for (DecisionRow row : bulkRepository.lockForDecision(chunk)) {
+                rowsById.put(row.getId(), row);
+            }
+        }
 
-            // 📧 Send Email
-            try {
-                if (employee.getEmail() != null && !employee.getEmail().isBlank()) {
+        List<DecisionRow> decided = uniqueIds.stream()
+                .map(rowsById::get)
+                .filter(row -> row != null && row.getStatus() == WorkflowStatus.PENDING)
+                .toList();
 
-                    mailService.sendApprovalMail(
-                            employee.getEmail().trim(),
-                            employee.getName(),
-                            "REJECTED"
-                    );
+        List<Long> decidedIds = decided.stream().map(DecisionRow::getId).toList();
 
-                    System.out.println("Mail send triggered successfully");
+        // 2. Set-based status change, batched transition inserts, outbox events
+        if (!decided.isEmpty()) {
+            for (List<Long> chunk : chunks(decidedIds)) {
+                bulkRepository.decide(chunk, decision, admin.getId(), now);
+            }
 
-                } else {
-                    System.out.println("User email is null or blank. Skipping mail.");
-                }
+            transitionLog.recordAll(
+                    decidedIds.stream()
+                            .map(id -> new WorkflowTransition(
+                                    id, WorkflowStatus.PENDING, decision,
+                                    decision.name(), admin.getEmail(), now))
+                            .toList());
+
+            // One event for every in-app notification of the decision
+            outboxService.enqueue(
+                    NotificationOutboxHandler.TYPE, null,
+                    new NotificationOutboxHandler.Payload(
+                            decided.stream()
+                                    .map(row -> new NotificationOutboxHandler.Message(
+                                            row.getUserId(),
+                                            "Your request '" + row.getTitle() + "' was " + decision.name()))
+                                    .toList()));
+
+            // Decision mail commits with the decision and is sent by OutboxRelay
+            outboxService.enqueueAll(
+                    decided.stream()
+                            .filter(row -> row.getUserEmail() != null && !row.getUserEmail().isBlank())
+                            .map(row -> outboxService.event(
+                                    ApprovalMailOutboxHandler.TYPE, row.getId(),
+                                    new ApprovalMailOutboxHandler.Payload(
+                                            row.getUserEmail().trim(), row.getUserName(), decision.name())))
+                            .toList());
+
+            // 3. Only count once the decision is actually committed
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            for (DecisionRow row : decided) {
+                                counterService.recordTransition(
+                                        row.getUserId(), WorkflowStatus.PENDING, decision);
+                                searchIndex.updateStatus(row.getId(), decision);
+                            }
+                        }
+                    });
+        }
 
-            } catch (Exception e) {
-                System.out.println("Email sending failed: " + e.getMessage());
-                e.printStackTrace();
+        // 4. Per-item outcome, in request order
+        Outcome applied = decision == WorkflowStatus.APPROVED
+                ? Outcome.APPROVED
+                : Outcome.REJECTED;
+
+        List<BulkDecisionResult> results = new ArrayList<>(uniqueIds.size());
+        for (Long id : uniqueIds) {
+            DecisionRow row = rowsById.get(id);
+
+            if (row == null) {
+                results.add(new BulkDecisionResult(id, Outcome.NOT_FOUND));
+            } else if (row.getStatus() != WorkflowStatus.PENDING) {
+                results.add(new BulkDecisionResult(id, Outcome.NOT_PENDING));
+            } else {
+                results.add(new BulkDecisionResult(id, applied));
             }
-        } else {
-            System.out.println("Workflow user is null. Cannot send email.");
         }
 
-        return saved;
+        return results;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(i + IN_CHUNK, ids.size())));
+        }
+        return chunks;
     }
 
     /* ===============================
        GET PENDING WORKFLOWS
        =============================== */
-    public List<Workflow> getPendingWorkflows() {
-        return workflowRepository
-                .findByStatusOrderByCreatedAtDesc(WorkflowStatus.PENDING);
+    public CursorPage<WorkflowSummary> getPendingWorkflows(String cursor, Integer size) {
+        return workflowService.pendingWorkflows(cursor, size);
     }
 }
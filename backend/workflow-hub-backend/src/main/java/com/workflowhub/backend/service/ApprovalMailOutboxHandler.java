@@ -0,0 +1,69 @@
+package com.workflowhub.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Decision mail, sent while the relay waits so an SMTP failure is retried
+ * by the relay rather than lost from an in-memory queue. A chunk of mails
+ * goes out over one SMTP connection.
+ */
+@Component
+public class ApprovalMailOutboxHandler implements OutboxHandler {
+
+    public static final String TYPE = "APPROVAL_MAIL";
+
+    public record Payload(String email, String name, String status) {
+    }
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        Exception failure = handleAll(List.of(payload)).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Map<Integer, Exception> handleAll(List<String> payloads) {
+        Map<Integer, Exception> failed = new HashMap<>();
+
+        List<SimpleMailMessage> messages = new ArrayList<>(payloads.size());
+        List<Integer> positions = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            try {
+                Payload p = objectMapper.readValue(payloads.get(i), Payload.class);
+                messages.add(mailService.approvalMail(p.email(), p.name(), p.status()));
+                positions.add(i);
+            } catch (JsonProcessingException e) {
+                failed.put(i, e);
+            }
+        }
+
+        mailDispatcher.send(messages).forEach((index, e) -> failed.put(positions.get(index), e));
+        return failed;
+    }
+}
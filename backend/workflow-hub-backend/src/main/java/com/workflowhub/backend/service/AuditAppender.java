@@ -0,0 +1,334 @@
+package com.workflowhub.backend.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.repository.AuditLogBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind appender for audit_logs.
+ *
+ * Callers drop entries into a bounded ring buffer and return immediately.
+ * A single writer thread drains it and inserts in JDBC batches once
+ * batch-size entries are waiting or flush-ms has passed, whichever comes
+ * first.
+ *
+ * When the buffer is full the overflow policy decides what happens:
+ * BLOCK waits for room, DROP discards and counts, SPILL appends the entry
+ * to a local file that is replayed once the buffer has drained. Batches
+ * the database rejects are spilled as well, so they are retried instead
+ * of lost. Replay records how many lines it has inserted after every
+ * batch, so a pass that fails part-way resumes without duplicates.
+ */
+@Service
+public class AuditAppender {
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP,
+        SPILL
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AuditAppender.class);
+
+    private final AuditLogBatchRepository batchRepository;
+
+    private final BlockingQueue<AuditLog> buffer;
+    private final int batchSize;
+    private final long flushMillis;
+    private final OverflowPolicy overflow;
+    private final Path spillFile;
+
+    // Not synchronized: the writer holds it across file I/O
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter failedCounter;
+    private final Timer flushLatency;
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public AuditAppender(
+            AuditLogBatchRepository batchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${audit.appender.capacity:8192}") int capacity,
+            @Value("${audit.appender.batch-size:500}") int batchSize,
+            @Value("${audit.appender.flush-ms:1000}") long flushMillis,
+            @Value("${audit.appender.overflow:SPILL}") OverflowPolicy overflow,
+            @Value("${audit.appender.spill-file:${java.io.tmpdir}/workflowhub-audit.spill}") Path spillFile
+    ) {
+        this.batchRepository = batchRepository;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.overflow = overflow;
+        this.spillFile = spillFile;
+
+        Gauge.builder("audit.buffer.depth", buffer, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+
+        this.writtenCounter = meterRegistry.counter("audit.written");
+        this.droppedCounter = meterRegistry.counter("audit.dropped");
+        this.spilledCounter = meterRegistry.counter("audit.spilled");
+        this.failedCounter = meterRegistry.counter("audit.failed");
+        this.flushLatency = Timer.builder("audit.flush.latency")
+                .description("Time to insert one audit batch")
+                .register(meterRegistry);
+    }
+
+    /* ===============================
+       LIFECYCLE
+       =============================== */
+
+    @PostConstruct
+    public void start() {
+        running = true;
+
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // Whatever the writer did not get to, including late appends
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /* ===============================
+       APPEND
+       =============================== */
+
+    public void append(AuditLog entry) {
+        if (!running) {
+            write(List.of(entry));
+            return;
+        }
+
+        if (buffer.offer(entry)) {
+            return;
+        }
+
+        switch (overflow) {
+            case BLOCK -> {
+                try {
+                    buffer.put(entry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    spill(List.of(entry));
+                }
+            }
+            case DROP -> droppedCounter.increment();
+            case SPILL -> spill(List.of(entry));
+        }
+    }
+
+    public int bufferDepth() {
+        return buffer.size();
+    }
+
+    /* ===============================
+       WRITER
+       =============================== */
+
+    private void writeLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+
+        replaySpill();
+
+        while (running) {
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+
+                // Fill up to batchSize, but never hold entries past flush-ms
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.nanoTime();
+                    if (wait <= 0) {
+                        break;
+                    }
+                    AuditLog next = buffer.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                if (buffer.isEmpty()) {
+                    replaySpill();
+                }
+
+            } catch (InterruptedException e) {
+                // Stopping: finish this batch, stop() drains the buffer
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Audit writer failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void write(List<AuditLog> batch) {
+        long start = System.nanoTime();
+
+        try {
+            batchRepository.insertAll(batch);
+            writtenCounter.increment(batch.size());
+
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.warn("Audit batch of {} failed, spilling to {}", batch.size(), spillFile, e);
+            spill(batch);
+
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /* ===============================
+       SPILL FILE
+       =============================== */
+
+    private void spill(List<AuditLog> entries) {
+        spillLock.lock();
+        try (BufferedWriter out = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditLog entry : entries) {
+                out.write(AuditLogCodec.encode(entry));
+                out.newLine();
+            }
+            spilledCounter.increment(entries.size());
+
+        } catch (IOException e) {
+            droppedCounter.increment(entries.size());
+            log.error("Could not spill {} audit entries to {}", entries.size(), spillFile, e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    void replaySpill() {
+        Path replaying = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        Path progress = spillFile.resolveSibling(spillFile.getFileName() + ".replay.done");
+
+        spillLock.lock();
+        try {
+            if (!Files.exists(replaying)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                // Progress from an earlier file must not skip lines of this one
+                Files.deleteIfExists(progress);
+                // New spills go to a fresh file while this one is replayed
+                Files.move(spillFile, replaying, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("Could not rotate audit spill file {}", spillFile, e);
+            return;
+        } finally {
+            spillLock.unlock();
+        }
+
+        try {
+            replayFrom(replaying, progress);
+            Files.delete(replaying);
+            Files.deleteIfExists(progress);
+
+        } catch (IOException | RuntimeException e) {
+            // Left in place and resumed after the last recorded batch on the next idle pass
+            log.warn("Audit spill replay from {} failed", replaying, e);
+        }
+    }
+
+    private void replayFrom(Path replaying, Path progress) throws IOException {
+        // Lines a previous, interrupted pass already inserted
+        long done = readProgress(progress);
+        long lineNo = 0;
+
+        try (BufferedReader in = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= done || line.isEmpty()) {
+                    continue;
+                }
+                batch.add(AuditLogCodec.decode(line));
+                if (batch.size() == batchSize) {
+                    insertReplayed(batch, progress, lineNo);
+                }
+            }
+            if (!batch.isEmpty()) {
+                insertReplayed(batch, progress, lineNo);
+            }
+        }
+    }
+
+    /* Inserts one replayed batch, then records that lines up to throughLine are in */
+    private void insertReplayed(List<AuditLog> batch, Path progress, long throughLine) throws IOException {
+        batchRepository.insertAll(batch);
+        writtenCounter.increment(batch.size());
+        batch.clear();
+
+        Path tmp = progress.resolveSibling(progress.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(throughLine), StandardCharsets.UTF_8);
+        Files.move(tmp, progress, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long readProgress(Path progress) throws IOException {
+        if (!Files.exists(progress)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(progress, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring unreadable audit replay progress in {}", progress);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.workflowhub.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.repository.AuditLogQueryRepository;
+import com.workflowhub.backend.repository.AuditPartitionRepository;
+import com.workflowhub.backend.service.AuditSegmentStore.SegmentWriter;
+
+/**
+ * Keeps audit_logs down to the last live-months months.
+ *
+ * Partitions are created a few months ahead. Once a month falls out of
+ * the live window its rows are copied into that month's archive segment
+ * and then removed from the table (DROP PARTITION on MySQL, a range
+ * DELETE elsewhere). Segments older than archive-months are deleted.
+ */
+@Service
+public class AuditArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiver.class);
+
+    @Autowired
+    private AuditPartitionRepository partitionRepository;
+
+    @Autowired
+    private AuditLogQueryRepository auditLogQueryRepository;
+
+    @Autowired
+    private AuditSegmentStore segmentStore;
+
+    @Value("${audit.retention.live-months:3}")
+    private int liveMonths;
+
+    @Value("${audit.retention.archive-months:24}")
+    private int archiveMonths;
+
+    @Value("${audit.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    /* =========================
+       SCHEDULE
+       ========================= */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            preparePartitions(YearMonth.now());
+        } catch (RuntimeException e) {
+            // Not fatal: the table simply stays unpartitioned until the next run
+            log.error("Could not prepare audit_logs partitions", e);
+        }
+    }
+
+    @Scheduled(cron = "${audit.archive.cron:0 30 2 * * *}")
+    public void run() {
+        YearMonth now = YearMonth.now();
+        try {
+            preparePartitions(now);
+            archive(now);
+            purge(now);
+        } catch (IOException | RuntimeException e) {
+            log.error("Audit archiving failed", e);
+        }
+    }
+
+    /* =========================
+       STEPS
+       ========================= */
+
+    void preparePartitions(YearMonth now) {
+        if (!partitionRepository.supported()) {
+            return;
+        }
+
+        YearMonth last = now.plusMonths(monthsAhead);
+        Set<YearMonth> existing = partitionRepository.months();
+
+        if (existing.isEmpty()) {
+            LocalDateTime oldest = partitionRepository.oldestEntry();
+            YearMonth first = oldest == null ? now : YearMonth.from(oldest);
+            partitionRepository.partition(first, last);
+            log.info("Partitioned audit_logs by month from {} to {}", first, last);
+            return;
+        }
+
+        YearMonth newest = existing.stream().max(YearMonth::compareTo).orElseThrow();
+        for (YearMonth m = newest.plusMonths(1); !m.isAfter(last); m = m.plusMonths(1)) {
+            partitionRepository.addMonth(m);
+        }
+    }
+
+    /* Returns the number of rows moved to segments */
+    long archive(YearMonth now) throws IOException {
+        YearMonth firstLive = now.minusMonths(liveMonths - 1L);
+        LocalDateTime cutoff = firstLive.atDay(1).atStartOfDay();
+
+        AuditLogFilter expired = new AuditLogFilter();
+        expired.setTo(cutoff);
+
+        // Rows arrive newest first, so each month's rows are contiguous
+        MonthRouter router = new MonthRouter();
+        try {
+            auditLogQueryRepository.stream(expired, row -> router.add(YearMonth.from(row.getCreatedAt()), row));
+        } catch (UncheckedIOException e) {
+            router.closeQuietly();
+            throw e.getCause();
+        }
+        router.close();
+
+        // Only once every segment is synced to disk
+        if (partitionRepository.supported() && !partitionRepository.months().isEmpty()) {
+            for (YearMonth m : partitionRepository.months()) {
+                if (m.isBefore(firstLive)) {
+                    partitionRepository.dropMonth(m);
+                }
+            }
+        } else if (router.total > 0) {
+            partitionRepository.deleteBefore(cutoff);
+        }
+
+        if (router.total > 0) {
+            log.info("Archived {} audit rows older than {}", router.total, firstLive);
+        }
+        return router.total;
+    }
+
+    void purge(YearMonth now) throws IOException {
+        int deleted = segmentStore.deleteBefore(now.minusMonths(archiveMonths));
+        if (deleted > 0) {
+            log.info("Deleted {} audit archive months past retention", deleted);
+        }
+    }
+
+    private final class MonthRouter {
+
+        private YearMonth month;
+        private SegmentWriter writer;
+        private long total;
+
+        void add(YearMonth rowMonth, AuditLog row) {
+            try {
+                if (!rowMonth.equals(month)) {
+                    close();
+                    month = rowMonth;
+                    writer = segmentStore.append(rowMonth);
+                }
+                writer.add(row);
+                total++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+        }
+    }
+}
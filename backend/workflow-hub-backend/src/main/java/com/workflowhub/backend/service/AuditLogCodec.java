@@ -0,0 +1,79 @@
+package com.workflowhub.backend.service;
+
+import java.time.LocalDateTime;
+
+import com.workflowhub.backend.entity.AuditLog;
+
+/**
+ * One audit entry per tab-separated line, as used by the appender's spill
+ * file and the archive segments. "\N" marks null; tabs, newlines and
+ * backslashes are escaped.
+ */
+final class AuditLogCodec {
+
+    private static final int FIELDS = 7;
+
+    private AuditLogCodec() {
+    }
+
+    static String encode(AuditLog entry) {
+        return String.join("\t",
+                escape(entry.getId() == null ? null : entry.getId().toString()),
+                escape(entry.getAction()),
+                escape(entry.getPerformedBy()),
+                escape(entry.getRole()),
+                escape(entry.getEntityType()),
+                escape(entry.getEntityId() == null ? null : entry.getEntityId().toString()),
+                escape(entry.getCreatedAt() == null ? null : entry.getCreatedAt().toString()));
+    }
+
+    static AuditLog decode(String line) {
+        String[] f = line.split("\t", -1);
+        if (f.length != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields, got " + f.length);
+        }
+
+        AuditLog entry = new AuditLog();
+
+        String id = unescape(f[0]);
+        entry.setId(id == null ? null : Long.valueOf(id));
+
+        entry.setAction(unescape(f[1]));
+        entry.setPerformedBy(unescape(f[2]));
+        entry.setRole(unescape(f[3]));
+        entry.setEntityType(unescape(f[4]));
+
+        String entityId = unescape(f[5]);
+        entry.setEntityId(entityId == null ? null : Long.valueOf(entityId));
+
+        String createdAt = unescape(f[6]);
+        entry.setCreatedAt(createdAt == null ? null : LocalDateTime.parse(createdAt));
+
+        return entry;
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "\\N";
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    private static String unescape(String value) {
+        if ("\\N".equals(value)) {
+            return null;
+        }
+
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
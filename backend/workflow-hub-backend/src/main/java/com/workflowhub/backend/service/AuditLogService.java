@@ -5,7 +5,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import com.workflowhub.backend.entity.AuditLog;
-import com.workflowhub.backend.repository.AuditLogRepository;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +12,7 @@ import java.time.LocalDateTime;
 public class AuditLogService {
 
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private AuditAppender auditAppender;
 
     public void log(
             String action,
@@ -31,6 +30,7 @@ public class AuditLogService {
         );
         log.setCreatedAt(LocalDateTime.now());
 
-        auditLogRepository.save(log);
+        // Written behind in batches; see AuditAppender
+        auditAppender.append(log);
     }
 }
@@ -0,0 +1,141 @@
+package com.workflowhub.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.exception.InvalidRequestException;
+import com.workflowhub.backend.repository.AuditLogQueryRepository;
+
+@Service
+public class AuditQueryService {
+
+    public enum ExportFormat {
+        NDJSON,
+        CSV;
+
+        public static ExportFormat parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,action,performedBy,role,entityType,entityId,createdAt";
+
+    @Autowired
+    private AuditLogQueryRepository auditLogQueryRepository;
+
+    @Autowired
+    private AuditSegmentStore segmentStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /* =========================
+       PAGED QUERY
+       ========================= */
+    public CursorPage<AuditLog> search(AuditLogFilter filter, String cursor, Integer size) {
+
+        int pageSize = PageCursor.resolveSize(size);
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+
+        int limit = pageSize + 1;
+        List<AuditLog> rows = new ArrayList<>(auditLogQueryRepository.findPage(filter, after, limit));
+
+        // Archived months are all older than the live table, so a short
+        // page continues into the segments from where the table ran out
+        if (rows.size() < limit) {
+            PageCursor from = rows.isEmpty() ? after : cursorOf(rows.get(rows.size() - 1));
+            try {
+                segmentStore.scan(filter, from, log -> {
+                    rows.add(log);
+                    return rows.size() < limit;
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return CursorPage.of(rows, pageSize, log -> cursorOf(log).encode());
+    }
+
+    private static PageCursor cursorOf(AuditLog log) {
+        return new PageCursor(log.getCreatedAt(), log.getId());
+    }
+
+    /* =========================
+       STREAMING EXPORT
+       ========================= */
+    public void export(AuditLogFilter filter, ExportFormat format, OutputStream out) throws IOException {
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+        }
+
+        Consumer<AuditLog> sink = log -> {
+            try {
+                writer.write(format == ExportFormat.CSV
+                        ? csvLine(log)
+                        : objectMapper.writeValueAsString(log));
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            auditLogQueryRepository.stream(filter, sink);
+            segmentStore.scan(filter, null, log -> {
+                sink.accept(log);
+                return true;
+            });
+        } catch (UncheckedIOException e) {
+            // Client went away mid-export
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    static String csvLine(AuditLog log) {
+        return String.join(",",
+                String.valueOf(log.getId()),
+                csv(log.getAction()),
+                csv(log.getPerformedBy()),
+                csv(log.getRole()),
+                csv(log.getEntityType()),
+                log.getEntityId() == null ? "" : log.getEntityId().toString(),
+                log.getCreatedAt() == null ? "" : log.getCreatedAt().toString());
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
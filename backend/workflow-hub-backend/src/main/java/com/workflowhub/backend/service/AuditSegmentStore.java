@@ -0,0 +1,446 @@
+package com.workflowhub.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.AuditLog;
+
+/**
+ * Archived audit months on local disk.
+ *
+ * Each month is an append-only pair of files:
+ *   audit-YYYY-MM.seg  Deflate-compressed blocks of encoded rows
+ *   audit-YYYY-MM.idx  one "B offset length rows minTime maxTime" line per
+ *                      block, and "E entityId block,block,..." postings
+ *                      for the blocks of each archive run
+ *
+ * A run writes its blocks, syncs them, then appends its index lines, so a
+ * crash part-way leaves only unreferenced bytes at the end of the segment.
+ * Reads use the index to skip blocks outside the time range or without
+ * the requested entity id.
+ */
+@Service
+public class AuditSegmentStore {
+
+    /* Newest first, the same order as the live query */
+    static final Comparator<AuditLog> NEWEST_FIRST = Comparator
+            .comparing(AuditLog::getCreatedAt)
+            .thenComparing(AuditLog::getId)
+            .reversed();
+
+    private static final String NO_ENTITY = "-";
+
+    private final Path dir;
+    private final int blockRows;
+
+    public AuditSegmentStore(
+            @Value("${audit.archive.dir:data/audit-archive}") Path dir,
+            @Value("${audit.archive.block-rows:1024}") int blockRows
+    ) {
+        this.dir = dir;
+        this.blockRows = blockRows;
+    }
+
+    /* =========================
+       WRITE
+       ========================= */
+
+    public SegmentWriter append(YearMonth month) throws IOException {
+        Files.createDirectories(dir);
+        return new SegmentWriter(month);
+    }
+
+    /** Buffers rows into blocks; nothing is visible to readers until close(). */
+    public final class SegmentWriter implements Closeable {
+
+        private final Path indexFile;
+        private final FileChannel segment;
+
+        private final List<AuditLog> block = new ArrayList<>(blockRows);
+        private final List<String> blockLines = new ArrayList<>();
+        private final Map<String, Set<Integer>> postings = new TreeMap<>();
+
+        private int nextBlock;
+        private long rows;
+
+        private SegmentWriter(YearMonth month) throws IOException {
+            this.indexFile = indexFile(month);
+            this.segment = FileChannel.open(segmentFile(month),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            this.nextBlock = existingBlocks(indexFile);
+        }
+
+        public void add(AuditLog row) {
+            block.add(row);
+            if (block.size() == blockRows) {
+                flushBlock();
+            }
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        private void flushBlock() {
+            if (block.isEmpty()) {
+                return;
+            }
+
+            StringBuilder text = new StringBuilder();
+            LocalDateTime min = null;
+            LocalDateTime max = null;
+
+            for (AuditLog row : block) {
+                text.append(AuditLogCodec.encode(row)).append('\n');
+
+                LocalDateTime at = row.getCreatedAt();
+                min = min == null || at.isBefore(min) ? at : min;
+                max = max == null || at.isAfter(max) ? at : max;
+
+                postings.computeIfAbsent(entityKey(row.getEntityId()), k -> new TreeSet<>())
+                        .add(nextBlock);
+            }
+
+            try {
+                byte[] compressed = deflate(text.toString().getBytes(StandardCharsets.UTF_8));
+                long offset = segment.size();
+                segment.write(ByteBuffer.wrap(compressed));
+
+                blockLines.add("B " + offset + " " + compressed.length + " " + block.size()
+                        + " " + min + " " + max);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            rows += block.size();
+            nextBlock++;
+            block.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBlock();
+                segment.force(true);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                segment.close();
+            }
+
+            if (blockLines.isEmpty()) {
+                return;
+            }
+
+            List<String> lines = new ArrayList<>(blockLines);
+            postings.forEach((entity, blocks) -> lines.add("E " + entity + " "
+                    + String.join(",", blocks.stream().map(String::valueOf).toList())));
+
+            try (FileChannel index = FileChannel.open(indexFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                index.write(ByteBuffer.wrap(
+                        (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8)));
+                index.force(true);
+            }
+        }
+    }
+
+    /* =========================
+       READ
+       ========================= */
+
+    public NavigableSet<YearMonth> months() throws IOException {
+        NavigableSet<YearMonth> months = new TreeSet<>();
+        if (!Files.isDirectory(dir)) {
+            return months;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "audit-*.idx")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                months.add(YearMonth.parse(name.substring(6, 13)));
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Feeds archived rows matching the filter to sink, newest first and
+     * strictly after the cursor, until sink returns false. Blocks are
+     * merged by their time bounds and sorted one at a time, so only the
+     * blocks overlapping the current position are held in memory. A run
+     * repeated after a crash writes overlapping blocks whose duplicates
+     * come out next to each other and are dropped there.
+     */
+    public void scan(AuditLogFilter filter, PageCursor after, Predicate<AuditLog> sink) throws IOException {
+        LocalDateTime lower = filter.getFrom();
+        LocalDateTime upper = filter.getTo();
+        if (after != null && (upper == null || !after.getCreatedAt().isAfter(upper))) {
+            upper = after.getCreatedAt().plusNanos(1000);
+        }
+
+        for (YearMonth month : months().descendingSet()) {
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+
+            if (upper != null && !monthStart.isBefore(upper)) {
+                continue;
+            }
+            if (lower != null && !monthEnd.isAfter(lower)) {
+                break;
+            }
+
+            List<BlockRef> blocks = candidateBlocks(month, filter, lower, upper);
+            blocks.sort(Comparator.comparing(BlockRef::max).reversed());
+
+            PriorityQueue<BlockCursor> open = new PriorityQueue<>(
+                    Comparator.comparing(BlockCursor::head, NEWEST_FIRST));
+            AuditLog previous = null;
+            int next = 0;
+
+            while (true) {
+                /* A block may hold rows as new as its max, so open it before emitting anything older */
+                while (next < blocks.size() && (open.isEmpty()
+                        || !blocks.get(next).max().isBefore(open.peek().head().getCreatedAt()))) {
+                    List<AuditLog> rows = new ArrayList<>();
+                    for (AuditLog row : readBlock(month, blocks.get(next++))) {
+                        if (matches(filter, after, row)) {
+                            rows.add(row);
+                        }
+                    }
+                    if (!rows.isEmpty()) {
+                        rows.sort(NEWEST_FIRST);
+                        open.add(new BlockCursor(rows));
+                    }
+                }
+                if (open.isEmpty()) {
+                    break;
+                }
+
+                BlockCursor top = open.poll();
+                AuditLog row = top.head();
+                if (top.advance()) {
+                    open.add(top);
+                }
+
+                if (previous != null && NEWEST_FIRST.compare(previous, row) == 0) {
+                    continue;
+                }
+                previous = row;
+                if (!sink.test(row)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /* =========================
+       RETENTION
+       ========================= */
+
+    public int deleteBefore(YearMonth cutoff) throws IOException {
+        int deleted = 0;
+        for (YearMonth month : months().headSet(cutoff, false)) {
+            Files.deleteIfExists(indexFile(month));
+            Files.deleteIfExists(segmentFile(month));
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /* =========================
+       INTERNALS
+       ========================= */
+
+    private record BlockRef(long offset, int length, LocalDateTime min, LocalDateTime max) {
+    }
+
+    /* Rows of one block, already sorted newest first */
+    private static final class BlockCursor {
+
+        private final List<AuditLog> rows;
+        private int position;
+
+        BlockCursor(List<AuditLog> rows) {
+            this.rows = rows;
+        }
+
+        AuditLog head() {
+            return rows.get(position);
+        }
+
+        boolean advance() {
+            return ++position < rows.size();
+        }
+    }
+
+    private List<BlockRef> candidateBlocks(YearMonth month, AuditLogFilter filter,
+                                           LocalDateTime lower, LocalDateTime upper) throws IOException {
+        List<BlockRef> blocks = new ArrayList<>();
+        Set<Integer> withEntity = filter.getEntityId() == null ? null : new TreeSet<>();
+        String wanted = filter.getEntityId() == null ? null : entityKey(filter.getEntityId());
+
+        for (String line : Files.readAllLines(indexFile(month), StandardCharsets.UTF_8)) {
+            String[] f = line.split(" ");
+            if (f[0].equals("B")) {
+                blocks.add(new BlockRef(Long.parseLong(f[1]), Integer.parseInt(f[2]),
+                        LocalDateTime.parse(f[4]), LocalDateTime.parse(f[5])));
+            } else if (f[0].equals("E") && f[1].equals(wanted)) {
+                for (String b : f[2].split(",")) {
+                    withEntity.add(Integer.parseInt(b));
+                }
+            }
+        }
+
+        List<BlockRef> selected = new ArrayList<>();
+        for (int i = 0; i < blocks.size(); i++) {
+            BlockRef ref = blocks.get(i);
+            if (lower != null && ref.max().isBefore(lower)) {
+                continue;
+            }
+            if (upper != null && !ref.min().isBefore(upper)) {
+                continue;
+            }
+            if (withEntity != null && !withEntity.contains(i)) {
+                continue;
+            }
+            selected.add(ref);
+        }
+        return selected;
+    }
+
+    private List<AuditLog> readBlock(YearMonth month, BlockRef ref) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(ref.length());
+        try (FileChannel segment = FileChannel.open(segmentFile(month), StandardOpenOption.READ)) {
+            while (buf.hasRemaining()) {
+                if (segment.read(buf, ref.offset() + buf.position()) < 0) {
+                    throw new IOException("Truncated block in " + segmentFile(month));
+                }
+            }
+        }
+
+        String text = new String(inflate(buf.array()), StandardCharsets.UTF_8);
+        List<AuditLog> rows = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(AuditLogCodec.decode(line));
+            }
+        }
+        return rows;
+    }
+
+    /* Same semantics as AuditLogQueryRepository's WHERE clause */
+    static boolean matches(AuditLogFilter filter, PageCursor after, AuditLog row) {
+        LocalDateTime at = row.getCreatedAt();
+
+        if (filter.getFrom() != null && at.isBefore(filter.getFrom())) {
+            return false;
+        }
+        if (filter.getTo() != null && !at.isBefore(filter.getTo())) {
+            return false;
+        }
+        if (filter.getPerformedBy() != null && !filter.getPerformedBy().equals(row.getPerformedBy())) {
+            return false;
+        }
+        if (filter.getEntityType() != null && !filter.getEntityType().equals(row.getEntityType())) {
+            return false;
+        }
+        if (filter.getEntityId() != null && !filter.getEntityId().equals(row.getEntityId())) {
+            return false;
+        }
+        if (filter.getAction() != null && !filter.getAction().equals(row.getAction())) {
+            return false;
+        }
+        if (after != null) {
+            int cmp = at.compareTo(after.getCreatedAt());
+            return cmp < 0 || (cmp == 0 && row.getId() < after.getId());
+        }
+        return true;
+    }
+
+    private Path segmentFile(YearMonth month) {
+        return dir.resolve("audit-" + month + ".seg");
+    }
+
+    private Path indexFile(YearMonth month) {
+        return dir.resolve("audit-" + month + ".idx");
+    }
+
+    private static int existingBlocks(Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return 0;
+        }
+        return (int) Files.readAllLines(indexFile, StandardCharsets.UTF_8).stream()
+                .filter(l -> l.startsWith("B "))
+                .count();
+    }
+
+    private static String entityKey(Long entityId) {
+        return entityId == null ? NO_ENTITY : entityId.toString();
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Corrupt audit segment block");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt audit segment block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,34 +1,78 @@
 package com.workflowhub.backend.service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.exception.TooManyRequestsException;
+import com.workflowhub.backend.exception.UnauthorizedException;
 import com.workflowhub.backend.repository.UserRepository;
-import com.workflowhub.backend.security.JwtUtil;
+import com.workflowhub.backend.security.LoginThrottle;
+import com.workflowhub.backend.security.PasswordHasher;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private MeterRegistry meterRegistry;
 
-    public String login(String email, String password) {
+    /*
+     * The account's bucket is checked before the lookup, so a refused
+     * attempt costs no hash, and charged for unknown and known emails
+     * alike when the attempt fails.
+     */
+    public User authenticate(String ip, String email, String password) {
+
+        loginThrottle.checkEmail(ip, email);
+
+        User user = userRepository.findByEmail(email).orElse(null);
+
+        if (user == null || !passwordHasher.matches(password, user.getPassword())) {
+            loginThrottle.failedLogin(ip, email);
+            throw new UnauthorizedException("Invalid email or password");
+        }
+
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, password);
+        }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Invalid email or password"));
+        return user;
+    }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("Invalid email or password");
+    /*
+     * The plain password is only in hand right after a successful login, so
+     * that is when an old or weaker hash gets replaced. If the pool is busy
+     * the login still succeeds and the upgrade waits for the next one.
+     */
+    private void rehash(User user, String password) {
+        try {
+            user.setPassword(passwordHasher.encode(password));
+            userRepository.save(user);
+            meterRegistry.counter("auth.hash.rehashed").increment();
+        } catch (TooManyRequestsException e) {
+            log.debug("Skipped password rehash for user {}: hashing pool busy", user.getId());
         }
+    }
 
-        return jwtUtil.generateToken(user.getEmail());
-    } 
+    public RefreshTokenService.Tokens login(String ip, String email, String password) {
+        return refreshTokenService.openSession(authenticate(ip, email, password));
+    }
 }
@@ -0,0 +1,38 @@
+package com.workflowhub.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.entity.User;
+
+/*
+ * Role-wide notifications, e.g. telling admins about a new request. Written
+ * with the change that caused them, so a rolled-back change announces
+ * nothing and a committed one is announced even if the node dies first.
+ */
+@Component
+public class BroadcastOutboxHandler implements OutboxHandler {
+
+    public static final String TYPE = "BROADCAST";
+
+    public record Payload(User.Role role, String message) {
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        Payload p = objectMapper.readValue(payload, Payload.class);
+        notificationService.broadcast(p.role(), p.message());
+    }
+}
@@ -0,0 +1,81 @@
+package com.workflowhub.backend.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sends outbound mail in batches.
+ *
+ * Each batch is handed to the sender in one call so it shares a single
+ * SMTP connection, and the call blocks until the server has answered for
+ * every message. Retries and giving up belong to the caller: mail arrives
+ * here through the outbox relay, which backs failed events off and marks
+ * them DEAD once their attempts run out.
+ */
+@Service
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+
+    private final Timer sendLatency;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public MailDispatcher(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+
+        this.sendLatency = Timer.builder("mail.send.latency")
+                .description("Time to hand one batch to the SMTP server")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.sent");
+        this.failedCounter = meterRegistry.counter("mail.failed");
+    }
+
+    /* Returns the messages that were not accepted, by position in the batch */
+    public Map<Integer, Exception> send(List<SimpleMailMessage> batch) {
+        Map<Integer, Exception> failures = new HashMap<>();
+        if (batch.isEmpty()) {
+            return failures;
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            mailSender.send(batch.toArray(new SimpleMailMessage[0]));
+
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+
+            for (int i = 0; i < batch.size(); i++) {
+                Exception cause = failed.isEmpty() ? e : failed.get(batch.get(i));
+                if (cause != null) {
+                    failures.put(i, cause);
+                }
+            }
+
+        } catch (MailException e) {
+            for (int i = 0; i < batch.size(); i++) {
+                failures.put(i, e);
+            }
+
+        } finally {
+            sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        sentCounter.increment(batch.size() - failures.size());
+        failedCounter.increment(failures.size());
+        return failures;
+    }
+}
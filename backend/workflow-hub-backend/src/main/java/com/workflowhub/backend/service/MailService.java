@@ -1,20 +1,12 @@
 package com.workflowhub.backend.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
 public class MailService {
 
-    @Autowired
-    private JavaMailSender mailSender;
-
-    public void sendApprovalMail(String toEmail, String userName, String status) {
-
-        System.out.println("DEBUG - Method entered");
-        System.out.println("DEBUG - To Email: " + toEmail);
+    public SimpleMailMessage approvalMail(String toEmail, String userName, String status) {
 
         SimpleMailMessage message = new SimpleMailMessage();
 
@@ -28,9 +20,7 @@ public class MailService {
 
         message.setText(body);
 
-        mailSender.send(message);
-
-        System.out.println("DEBUG - mailSender.send() executed");
+        return message;
     }
 
 }
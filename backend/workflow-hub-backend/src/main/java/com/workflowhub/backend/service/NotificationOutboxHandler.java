@@ -0,0 +1,45 @@
+package com.workflowhub.backend.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * In-app notifications, pushed to the recipients' live streams. One event
+ * carries every message of a decision, so a bulk decision is one row.
+ */
+@Component
+public class NotificationOutboxHandler implements OutboxHandler {
+
+    public static final String TYPE = "NOTIFICATION";
+
+    public record Message(Long userId, String message) {
+    }
+
+    public record Payload(List<Message> messages) {
+
+        public static Payload of(Long userId, String message) {
+            return new Payload(List.of(new Message(userId, message)));
+        }
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(String payload) throws Exception {
+        Payload p = objectMapper.readValue(payload, Payload.class);
+        notificationService.notifyAll(p.messages());
+    }
+}
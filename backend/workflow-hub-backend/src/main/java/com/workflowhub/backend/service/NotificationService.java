@@ -1,27 +1,197 @@
 package com.workflowhub.backend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.NotificationView;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.BroadcastNotification;
+import com.workflowhub.backend.entity.BroadcastReceipt;
 import com.workflowhub.backend.entity.Notification;
 import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.exception.ResourceNotFoundException;
+import com.workflowhub.backend.repository.BroadcastNotificationRepository;
+import com.workflowhub.backend.repository.BroadcastReceiptRepository;
 import com.workflowhub.backend.repository.NotificationRepository;
 
 @Service
 public class NotificationService {
 
+    /* Users created before createdAt was tracked see every broadcast */
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     @Autowired
     private NotificationRepository repo;
 
+    @Autowired
+    private BroadcastNotificationRepository broadcastRepo;
+
+    @Autowired
+    private BroadcastReceiptRepository receiptRepo;
+
+    @Autowired
+    private NotificationStreamService streamService;
+
     public void notify(User user, String message) {
         Notification n = new Notification();
         n.setUser(user);
         n.setMessage(message);
         n.setReadStatus(false); 
-        repo.save(n);
+        streamService.publish(repo.save(n));
+    }
+
+    /* Saves the batch, then pushes each row to its recipient's streams */
+    public void notifyAll(List<NotificationOutboxHandler.Message> messages) {
+        List<Notification> rows = new ArrayList<>(messages.size());
+        for (NotificationOutboxHandler.Message m : messages) {
+            User user = new User();
+            user.setId(m.userId());
+
+            Notification n = new Notification();
+            n.setUser(user);
+            n.setMessage(m.message());
+            n.setReadStatus(false);
+            rows.add(n);
+        }
+        repo.saveAll(rows).forEach(streamService::publish);
+    }
+
+    /* One row for the whole role instead of one per recipient */
+    public void broadcast(User.Role role, String message) {
+        BroadcastNotification b = new BroadcastNotification();
+        b.setAudienceRole(role);
+        b.setMessage(message);
+        streamService.publish(broadcastRepo.save(b));
+    }
+
+    /*
+     * One keyset page of direct and broadcast notifications, newest first by
+     * (createdAt, id). Both sources are read past the same cursor and merged.
+     */
+    public CursorPage<NotificationView> getUserNotifications(User user, String cursor, Integer size) {
+
+        int pageSize = PageCursor.resolveSize(size);
+
+        // Neither side can contribute more than pageSize + 1 rows to the merge
+        Limit limit = Limit.of(pageSize + 1);
+
+        LocalDateTime since = user.getCreatedAt() != null
+                ? user.getCreatedAt()
+                : BEGINNING;
+
+        List<Notification> direct;
+        List<BroadcastNotification> broadcasts;
+
+        if (cursor == null || cursor.isBlank()) {
+            direct = repo.findPageByUser(user.getId(), limit);
+            broadcasts = broadcastRepo.findPageForAudience(user.getRole(), since, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            direct = repo.findPageByUserAfter(
+                    user.getId(), after.getCreatedAt(), after.getId(), limit);
+            broadcasts = broadcastRepo.findPageForAudienceAfter(
+                    user.getRole(), since, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        Set<Long> read = broadcasts.isEmpty()
+                ? Set.of()
+                : new HashSet<>(receiptRepo.findReadBroadcastIds(
+                        user.getId(),
+                        broadcasts.stream().map(BroadcastNotification::getId).toList()));
+
+        // Both lists are already sorted, so a single merge pass is enough
+        List<NotificationView> merged = new ArrayList<>(direct.size() + broadcasts.size());
+        int i = 0;
+        int j = 0;
+
+        while (i < direct.size() || j < broadcasts.size()) {
+            boolean takeDirect = j >= broadcasts.size()
+                    || (i < direct.size()
+                        && compareKeys(direct.get(i).getCreatedAt(), direct.get(i).getId(),
+                                broadcasts.get(j).getCreatedAt(), broadcasts.get(j).getId()) >= 0);
+
+            if (takeDirect) {
+                Notification n = direct.get(i++);
+                merged.add(new NotificationView(
+                        n.getId(), NotificationView.Type.DIRECT,
+                        n.getMessage(), n.isReadStatus(), n.getCreatedAt()));
+            } else {
+                BroadcastNotification b = broadcasts.get(j++);
+                merged.add(new NotificationView(
+                        b.getId(), NotificationView.Type.BROADCAST,
+                        b.getMessage(), read.contains(b.getId()), b.getCreatedAt()));
+            }
+        }
+
+        if (merged.size() <= pageSize) {
+            return new CursorPage<>(merged, null);
+        }
+
+        // Ids are only unique per type, so a direct row and a broadcast can share
+        // a key; the cursor cannot tell them apart and must never split them
+        int end = pageSize;
+        NotificationView last = merged.get(end - 1);
+        while (end < merged.size() && compareKeys(merged.get(end), last) == 0) {
+            end++;
+        }
+
+        // Only reachable when neither source filled its limit
+        if (end == merged.size()) {
+            return new CursorPage<>(merged, null);
+        }
+
+        return new CursorPage<>(
+                merged.subList(0, end),
+                new PageCursor(last.getCreatedAt(), last.getId()).encode());
     }
 
-    public List<Notification> getUserNotifications(Long userId) {
-        return repo.findByUserIdOrderByCreatedAtDesc(userId);
+    private static int compareKeys(NotificationView a, NotificationView b) {
+        return compareKeys(a.getCreatedAt(), a.getId(), b.getCreatedAt(), b.getId());
+    }
+
+    private static int compareKeys(LocalDateTime aCreatedAt, Long aId,
+                                   LocalDateTime bCreatedAt, Long bId) {
+        int byTime = aCreatedAt.compareTo(bCreatedAt);
+        return byTime != 0 ? byTime : aId.compareTo(bId);
+    }
+
+    public void markRead(Long notificationId, User user) {
+        Notification n = repo.findById(notificationId)
+                .filter(found -> found.getUser() != null
+                        && found.getUser().getId().equals(user.getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+
+        if (!n.isReadStatus()) {
+            n.setReadStatus(true);
+            repo.save(n);
+        }
+    }
+
+    public void markBroadcastRead(Long broadcastId, User user) {
+        BroadcastNotification b = broadcastRepo.findById(broadcastId)
+                .filter(found -> found.getAudienceRole() == user.getRole())
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+
+        if (receiptRepo.existsByBroadcastIdAndUserId(b.getId(), user.getId())) {
+            return;
+        }
+
+        BroadcastReceipt receipt = new BroadcastReceipt();
+        receipt.setBroadcastId(b.getId());
+        receipt.setUserId(user.getId());
+
+        try {
+            receiptRepo.save(receipt);
+        } catch (DataIntegrityViolationException e) {
+            // Another request recorded the same receipt first
+        }
     }
 }
@@ -0,0 +1,372 @@
+package com.workflowhub.backend.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.workflowhub.backend.dto.NotificationView;
+import com.workflowhub.backend.entity.BroadcastNotification;
+import com.workflowhub.backend.entity.Notification;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.repository.BroadcastNotificationRepository;
+import com.workflowhub.backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes notifications to connected clients over Server-Sent Events.
+ *
+ * Emitters run on async servlet requests, so an idle connection holds no
+ * request thread. Each subscriber has its own queue, drained in order on a
+ * small shared pool: callers of NotificationService never block, and a
+ * slow client only delays itself. A client that falls too far behind is
+ * disconnected and catches up through Last-Event-ID on reconnect.
+ *
+ * Event ids are "directId:broadcastId" - the newest row of each kind the
+ * client has seen. A reconnect sends it back as Last-Event-ID and only
+ * newer rows are replayed.
+ */
+@Service
+public class NotificationStreamService {
+
+    private static final int REPLAY_LIMIT = 100;
+
+    /* Pending sends per subscriber before it is treated as stuck */
+    static final int MAX_QUEUED = 256;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private BroadcastNotificationRepository broadcastRepository;
+
+    @Value("${notifications.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${notifications.stream.max-per-user:5}")
+    private int maxPerUser;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ExecutorService dispatcher;
+
+    public NotificationStreamService(
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${notifications.stream.dispatch-threads:8}") int dispatchThreads
+    ) {
+        // Replay does JDBC and every send can block on a slow socket
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, virtualThreads
+                ? Thread.ofVirtual().name("notification-stream-", 0).factory()
+                : Thread.ofPlatform().name("notification-stream-", 0).daemon(true).factory());
+
+        Gauge.builder("notifications.stream.connections", subscribers,
+                        m -> m.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+    }
+
+    /* =========================
+       CONNECT
+       ========================= */
+
+    public SseEmitter subscribe(User user, String lastEventId) {
+
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(user, emitter);
+
+        long[] resumeFrom = parseEventId(lastEventId);
+
+        if (resumeFrom == null) {
+            // Fresh connection: start from the newest rows that already exist
+            sub.lastDirectId = notificationRepository
+                    .findTopByUserIdOrderByIdDesc(user.getId())
+                    .map(Notification::getId).orElse(0L);
+            sub.lastBroadcastId = broadcastRepository
+                    .findTopByAudienceRoleOrderByIdDesc(user.getRole())
+                    .map(BroadcastNotification::getId).orElse(0L);
+        } else {
+            sub.lastDirectId = resumeFrom[0];
+            sub.lastBroadcastId = resumeFrom[1];
+        }
+
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        // Evict and add in one step, so a concurrent remove() cannot drop
+        // the set from the map while the new subscriber is joining it
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(user.getId(), (id, set) -> {
+            Set<Subscriber> mine = set != null ? set : ConcurrentHashMap.newKeySet();
+
+            // Drop the oldest connections once a user has too many tabs open
+            while (mine.size() >= maxPerUser) {
+                Subscriber oldest = mine.stream()
+                        .min(Comparator.comparingLong(s -> s.connectedAt))
+                        .orElseThrow();
+                mine.remove(oldest);
+                evicted.add(oldest);
+            }
+            mine.add(sub);
+            return mine;
+        });
+        evicted.forEach(this::close);
+
+        // Also catches anything created between the lookups above and the add
+        enqueue(sub, () -> replay(sub));
+
+        return emitter;
+    }
+
+    /* Overridden in tests to capture what is sent */
+    SseEmitter newEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void replay(Subscriber sub) {
+        List<Notification> direct = notificationRepository
+                .findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(sub.userId, sub.lastDirectId);
+
+        List<BroadcastNotification> broadcasts = broadcastRepository
+                .findTop100ByAudienceRoleAndIdGreaterThanOrderByIdAsc(sub.role, sub.lastBroadcastId);
+
+        for (Notification n : direct) {
+            deliverDirect(sub, n);
+        }
+        for (BroadcastNotification b : broadcasts) {
+            deliverBroadcast(sub, b);
+        }
+
+        if (direct.size() >= REPLAY_LIMIT || broadcasts.size() >= REPLAY_LIMIT) {
+            // Too far behind to replay; the client should reload the list
+            send(sub, "resync", null);
+        } else if (direct.isEmpty() && broadcasts.isEmpty()) {
+            send(sub, "ready", null);
+        }
+    }
+
+    /* =========================
+       PUBLISH
+       ========================= */
+
+    public void publish(Notification n) {
+        if (n.getUser() == null) {
+            return;
+        }
+        Set<Subscriber> mine = subscribers.get(n.getUser().getId());
+        if (mine == null) {
+            return;
+        }
+        mine.forEach(sub -> enqueue(sub, () -> deliverDirect(sub, n)));
+    }
+
+    public void publish(BroadcastNotification b) {
+        subscribers.values().forEach(set -> set.stream()
+                .filter(sub -> sub.role == b.getAudienceRole())
+                .forEach(sub -> enqueue(sub, () -> deliverBroadcast(sub, b))));
+    }
+
+    /*
+     * IDENTITY ids are handed out at insert but become visible at commit, so
+     * a row can commit after one with a higher id has already been sent.
+     * Replay only looks above lastDirectId and would never find it, so a
+     * lower id is still pushed, just without moving the resume point back.
+     * Clients dedupe on (type, id), which makes a row replay already sent
+     * harmless. A late row that commits while the client is disconnected is
+     * only picked up by its periodic reload.
+     */
+    private void deliverDirect(Subscriber sub, Notification n) {
+        if (n.getId() > sub.lastDirectId) {
+            sub.lastDirectId = n.getId();
+        }
+        send(sub, "notification", new NotificationView(
+                n.getId(), NotificationView.Type.DIRECT,
+                n.getMessage(), n.isReadStatus(), n.getCreatedAt()));
+    }
+
+    private void deliverBroadcast(Subscriber sub, BroadcastNotification b) {
+        if (b.getId() <= sub.lastBroadcastId) {
+            return;
+        }
+        if (sub.joinedAt != null && b.getCreatedAt() != null
+                && b.getCreatedAt().isBefore(sub.joinedAt)) {
+            return;
+        }
+        sub.lastBroadcastId = b.getId();
+        send(sub, "notification", new NotificationView(
+                b.getId(), NotificationView.Type.BROADCAST,
+                b.getMessage(), false, b.getCreatedAt()));
+    }
+
+    /* =========================
+       HEARTBEAT / CLEANUP
+       ========================= */
+
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(sub -> enqueue(sub, () -> {
+            try {
+                sub.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                close(sub);
+            }
+        })));
+    }
+
+    /* =========================
+       PER-SUBSCRIBER QUEUE
+       ========================= */
+
+    /*
+     * Tasks for one subscriber run one at a time and in order, which is
+     * what keeps lastDirectId/lastBroadcastId single-threaded. At most one
+     * drain per subscriber is on the pool at any time.
+     */
+    private void enqueue(Subscriber sub, Runnable task) {
+        if (sub.closed.get()) {
+            return;
+        }
+        if (sub.queued.incrementAndGet() > MAX_QUEUED) {
+            // Stuck or far too slow; it resumes from Last-Event-ID on reconnect
+            sub.queued.decrementAndGet();
+            close(sub);
+            return;
+        }
+        sub.tasks.add(task);
+        scheduleDrain(sub);
+    }
+
+    private void scheduleDrain(Subscriber sub) {
+        if (!sub.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(sub));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            sub.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            Runnable task;
+            while ((task = sub.tasks.poll()) != null) {
+                sub.queued.decrementAndGet();
+                if (!sub.closed.get()) {
+                    task.run();
+                }
+            }
+        } finally {
+            sub.draining.set(false);
+        }
+        // A task added after the last poll but before draining was cleared
+        if (!sub.tasks.isEmpty()) {
+            scheduleDrain(sub);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(sub -> sub.emitter.complete()));
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    private void send(Subscriber sub, String name, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .id(sub.lastDirectId + ":" + sub.lastBroadcastId)
+                .name(name);
+
+        if (data != null) {
+            event.data(data, MediaType.APPLICATION_JSON);
+        } else {
+            event.data("");
+        }
+
+        try {
+            sub.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            close(sub);
+        }
+    }
+
+    private void close(Subscriber sub) {
+        remove(sub);
+        try {
+            sub.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // already completed
+        }
+    }
+
+    private void remove(Subscriber sub) {
+        sub.closed.set(true);
+        subscribers.computeIfPresent(sub.userId, (id, set) -> {
+            set.remove(sub);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /* "12:5" -> {12, 5}; anything else means no resume point */
+    static long[] parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        String[] parts = lastEventId.trim().split(":");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return new long[] { Long.parseLong(parts[0]), Long.parseLong(parts[1]) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Subscriber {
+
+        final Long userId;
+        final User.Role role;
+        final LocalDateTime joinedAt;
+        final SseEmitter emitter;
+        final long connectedAt = System.nanoTime();
+
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        // Set before the subscriber is registered, then only touched by its own queue
+        long lastDirectId;
+        long lastBroadcastId;
+
+        Subscriber(User user, SseEmitter emitter) {
+            this.userId = user.getId();
+            this.role = user.getRole();
+            this.joinedAt = user.getCreatedAt();
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.workflowhub.backend.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers one kind of outbox event. Delivery is at least once: a relay
+ * that dies after delivering but before marking the row sent delivers it
+ * again, so handlers should tolerate repeats. Throwing schedules a retry.
+ */
+public interface OutboxHandler {
+
+    String type();
+
+    void handle(String payload) throws Exception;
+
+    /*
+     * Delivers a chunk of events and returns the failures by position.
+     * One at a time unless the handler can share work across the chunk,
+     * such as one SMTP connection for several messages.
+     */
+    default Map<Integer, Exception> handleAll(List<String> payloads) {
+        Map<Integer, Exception> failed = new HashMap<>();
+        for (int i = 0; i < payloads.size(); i++) {
+            try {
+                handle(payloads.get(i));
+            } catch (Exception e) {
+                failed.put(i, e);
+            }
+        }
+        return failed;
+    }
+}
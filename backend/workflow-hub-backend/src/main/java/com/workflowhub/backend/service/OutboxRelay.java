@@ -0,0 +1,275 @@
+package com.workflowhub.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.repository.OutboxRepository;
+import com.workflowhub.backend.repository.OutboxRepository.Backlog;
+import com.workflowhub.backend.repository.OutboxRepository.Claimed;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Delivers outbox_events written by OutboxService.
+ *
+ * Every node runs a relay. Each poll claims a batch of due rows, which
+ * hides them from the other relays for the lease, and hands the events to
+ * the handler for their type in chunks of chunk-size. Each chunk's
+ * delivered rows are marked sent in one update. A failed row is put back
+ * with exponential backoff and becomes DEAD once max-attempts is reached;
+ * a row whose relay died mid-batch simply comes due again when its lease
+ * runs out. Once half the lease has passed, the rows not yet delivered
+ * get a fresh one, so a slow batch is not claimed again by another node.
+ *
+ * The relay polls on its own platform thread. Handlers block on SMTP and
+ * the like, which would otherwise hold up every other @Scheduled task on
+ * Spring's single scheduler thread, and Jakarta Mail sends inside
+ * synchronized methods, which would pin a virtual thread's carrier.
+ *
+ * outbox.delivery.latency measures from the original write, so it
+ * includes time spent waiting for a poll and for retries. outbox.pending
+ * and outbox.oldest.pending.age are the queue depth and how long its
+ * oldest row has been due, refreshed at the start of every poll.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OutboxHandler> handlers = new HashMap<>();
+
+    private final int batchSize;
+    private final int chunkSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    @Value("${outbox.retain-hours:24}")
+    private long retainHours;
+
+    @Value("${outbox.relay.poll-ms:1000}")
+    private long pollMillis;
+
+    private ScheduledExecutorService poller;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(
+            List<OutboxHandler> handlers,
+            OutboxRepository outboxRepository,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.chunk-size:20}") int chunkSize,
+            @Value("${outbox.relay.lease-ms:60000}") long leaseMillis,
+            @Value("${outbox.relay.max-attempts:8}") int maxAttempts,
+            @Value("${outbox.relay.backoff-ms:2000}") long backoffMillis,
+            @Value("${outbox.relay.max-backoff-ms:600000}") long maxBackoffMillis
+    ) {
+        for (OutboxHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("Two outbox handlers for type " + handler.type());
+            }
+        }
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.oldest.pending.age", oldestPendingAgeMillis,
+                        TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("How long the oldest pending outbox event has been due")
+                .register(meterRegistry);
+    }
+
+    /* =========================
+       LIFECYCLE
+       ========================= */
+
+    @PostConstruct
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-relay").daemon(true).factory());
+        poller.scheduleWithFixedDelay(this::pollSafely, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (poller != null) {
+            poller.shutdown();
+            poller.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /* An exception escaping a fixed-delay task would cancel every later run */
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.error("Outbox poll failed", e);
+        }
+    }
+
+    /* =========================
+       POLLING
+       ========================= */
+
+    /* Keeps going while batches come back full, so a backlog drains in one poll */
+    public void poll() {
+        refreshBacklog();
+        while (relayBatch() == batchSize) {
+            // next batch
+        }
+    }
+
+    void refreshBacklog() {
+        Backlog backlog = outboxRepository.backlog();
+        pending.set(backlog.pending());
+
+        // Leased and backed-off rows are not due yet, so the age never goes negative
+        long ageMillis = backlog.oldestAvailableAt() == null
+                ? 0
+                : Duration.between(backlog.oldestAvailableAt(), LocalDateTime.now()).toMillis();
+        oldestPendingAgeMillis.set(Math.max(ageMillis, 0));
+    }
+
+    /* Claims and delivers one batch; returns how many rows it claimed */
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Claimed> batch = outboxRepository.claim(batchSize, now, now.plus(Duration.ofMillis(leaseMillis)));
+        long renewAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMillis / 2);
+
+        // Same-type events are delivered together, in claim order
+        Map<String, List<Claimed>> byType = new LinkedHashMap<>();
+        for (Claimed event : batch) {
+            byType.computeIfAbsent(event.type(), t -> new ArrayList<>()).add(event);
+        }
+
+        List<Claimed> remaining = new ArrayList<>(batch);
+        for (List<Claimed> events : byType.values()) {
+            for (int from = 0; from < events.size(); from += chunkSize) {
+                List<Claimed> chunk = events.subList(from, Math.min(from + chunkSize, events.size()));
+
+                if (System.nanoTime() >= renewAt) {
+                    outboxRepository.extendLease(remaining.stream().map(Claimed::id).toList(),
+                            LocalDateTime.now().plus(Duration.ofMillis(leaseMillis)));
+                    renewAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMillis / 2);
+                }
+
+                outboxRepository.markSent(deliver(chunk), LocalDateTime.now());
+                remaining.removeAll(chunk);
+            }
+        }
+        return batch.size();
+    }
+
+    /* Delivers one chunk of a single type; returns the ids that went out */
+    private List<Long> deliver(List<Claimed> chunk) {
+        String type = chunk.get(0).type();
+        OutboxHandler handler = handlers.get(type);
+        if (handler == null) {
+            chunk.forEach(event -> fail(event, maxAttempts, "No handler for type " + type));
+            return List.of();
+        }
+
+        Map<Integer, Exception> failed;
+        try {
+            failed = handler.handleAll(chunk.stream().map(Claimed::payload).toList());
+        } catch (RuntimeException e) {
+            failed = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                failed.put(i, e);
+            }
+        }
+
+        List<Long> sent = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Claimed event = chunk.get(i);
+            Exception e = failed.get(i);
+            if (e != null) {
+                fail(event, event.attempts() + 1, e.getClass().getSimpleName() + ": " + e.getMessage());
+                continue;
+            }
+
+            Timer.builder("outbox.delivery.latency")
+                    .tag("type", event.type())
+                    .description("Time from writing an outbox event to delivering it")
+                    .register(meterRegistry)
+                    .record(Duration.between(event.createdAt(), LocalDateTime.now()));
+            meterRegistry.counter("outbox.delivered", "type", event.type()).increment();
+            sent.add(event.id());
+        }
+        return sent;
+    }
+
+    private void fail(Claimed event, int attempts, String error) {
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            outboxRepository.markFailed(event.id(), attempts, null, error);
+            meterRegistry.counter("outbox.dead", "type", event.type()).increment();
+            log.error("Outbox event {} ({}) given up after {} attempts: {}",
+                    event.id(), event.type(), attempts, error);
+            return;
+        }
+
+        LocalDateTime retryAt = LocalDateTime.now().plus(Duration.ofMillis(backoff(attempts)));
+        outboxRepository.markFailed(event.id(), attempts, retryAt, error);
+        meterRegistry.counter("outbox.failed", "type", event.type()).increment();
+        log.warn("Outbox event {} ({}) failed, attempt {} of {}, retrying at {}: {}",
+                event.id(), event.type(), attempts, maxAttempts, retryAt, error);
+    }
+
+    /* backoff-ms, doubled per attempt after the first, capped at max-backoff-ms */
+    long backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(backoffMillis << shift, maxBackoffMillis);
+    }
+
+    /* =========================
+       CLEANUP
+       ========================= */
+
+    @Scheduled(cron = "${outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int removed = outboxRepository.deleteSentBefore(
+                LocalDateTime.now().minusHours(retainHours));
+        if (removed > 0) {
+            log.info("Purged {} delivered outbox events", removed);
+        }
+    }
+}
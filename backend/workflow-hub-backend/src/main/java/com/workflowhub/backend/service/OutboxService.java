@@ -0,0 +1,43 @@
+package com.workflowhub.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.repository.OutboxRepository;
+import com.workflowhub.backend.repository.OutboxRepository.NewEvent;
+
+/**
+ * Records side effects in outbox_events as part of the caller's
+ * transaction, so they commit or roll back together with the change that
+ * caused them. OutboxRelay runs them after the commit.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void enqueue(String type, Long aggregateId, Object payload) {
+        outboxRepository.insertAll(List.of(event(type, aggregateId, payload)), LocalDateTime.now());
+    }
+
+    public void enqueueAll(List<NewEvent> events) {
+        outboxRepository.insertAll(events, LocalDateTime.now());
+    }
+
+    public NewEvent event(String type, Long aggregateId, Object payload) {
+        try {
+            return new NewEvent(type, aggregateId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + type + " outbox payload", e);
+        }
+    }
+}
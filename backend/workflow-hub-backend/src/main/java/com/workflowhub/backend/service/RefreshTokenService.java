@@ -0,0 +1,209 @@
+package com.workflowhub.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.RefreshToken;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.exception.UnauthorizedException;
+import com.workflowhub.backend.repository.RefreshTokenRepository;
+import com.workflowhub.backend.repository.UserRepository;
+import com.workflowhub.backend.security.JwtUtil;
+import com.workflowhub.backend.security.SessionDenylist;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Short-lived access tokens plus rotating refresh tokens.
+ *
+ * A login opens a session: a random refresh token, stored only as its
+ * SHA-256, and an access token carrying the session id. Each refresh marks
+ * the presented token used and hands out the next one in the same session,
+ * with no password check and so no BCrypt. Presenting a token that was
+ * already used means it leaked. The whole session is then revoked: its
+ * refresh tokens in the table, and its outstanding access tokens through
+ * the in-memory denylist.
+ *
+ * Two tabs that get a 401 at the same moment both present the same token.
+ * A token rotated only seconds ago, in a session that is still live, is
+ * therefore not treated as reuse: the late caller gets its own token in
+ * the same session instead.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private SessionDenylist sessionDenylist;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.refresh.expiration-days:30}")
+    private long refreshDays;
+
+    @Value("${jwt.refresh.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
+    public record Tokens(String accessToken, String refreshToken, long expiresInSeconds) {
+    }
+
+    /* =========================
+       ISSUE / ROTATE
+       ========================= */
+
+    public Tokens openSession(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /*
+     * One transaction, so the old token is only used up if the new one is
+     * saved. Rejections still commit: a detected reuse must stay revoked.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Tokens refresh(String rawToken) {
+        RefreshToken current = findForUpdate(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null) {
+            if (rotatedMomentsAgo(current, now)
+                    && refreshTokenRepository.existsBySessionIdAndRevokedAtIsNull(current.getSessionId())) {
+                // Another tab refreshed with the same token first
+                meterRegistry.counter("auth.refresh.concurrent").increment();
+                return issue(loadUser(current), current.getSessionId());
+            }
+
+            // Already used: someone else holds a copy of this token
+            meterRegistry.counter("auth.refresh.reuse").increment();
+            log.warn("Refresh token reuse for user {}, revoking session {}",
+                    current.getUserId(), current.getSessionId());
+            revokeSession(current.getSessionId());
+            throw new UnauthorizedException("Refresh token is no longer valid");
+        }
+
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new UnauthorizedException("Refresh token expired");
+        }
+
+        refreshTokenRepository.markRevoked(current.getId(), now);
+
+        meterRegistry.counter("auth.refresh.rotated").increment();
+        return issue(loadUser(current), current.getSessionId());
+    }
+
+    private boolean rotatedMomentsAgo(RefreshToken token, LocalDateTime now) {
+        return token.getRevokedAt().isAfter(now.minusSeconds(reuseGraceSeconds));
+    }
+
+    /* Fresh role and token version; a revoked user has no live refresh tokens left */
+    private User loadUser(RefreshToken token) {
+        return userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new UnauthorizedException("Refresh token is no longer valid"));
+    }
+
+    private Tokens issue(User user, String sessionId) {
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        refreshTokenRepository.save(new RefreshToken(
+                user.getId(), hash(rawToken), sessionId,
+                LocalDateTime.now().plusDays(refreshDays)));
+
+        return new Tokens(
+                jwtUtil.generateToken(user, sessionId),
+                rawToken,
+                jwtUtil.getExpirationMillis() / 1000);
+    }
+
+    /* =========================
+       REVOCATION
+       ========================= */
+
+    /* Logout from one device: the presented token's session ends */
+    public void logout(String rawToken) {
+        revokeSession(find(rawToken).getSessionId());
+    }
+
+    /*
+     * Access tokens already carry the bumped token version, so only the
+     * refresh tokens need to go; otherwise a refresh would mint a token
+     * with the new version.
+     */
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeSession(sessionId, LocalDateTime.now());
+
+        // No access token of the session outlives this
+        Duration accessLifetime = Duration.ofMillis(jwtUtil.getExpirationMillis());
+        sessionDenylist.revoke(sessionId, LocalDateTime.now().plus(accessLifetime));
+    }
+
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 15 3 * * *}")
+    public void purgeExpired() {
+        int removed = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (removed > 0) {
+            log.info("Purged {} expired refresh tokens", removed);
+        }
+    }
+
+    /* =========================
+       HELPERS
+       ========================= */
+
+    private RefreshToken find(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new UnauthorizedException("Refresh token is required");
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Refresh token is no longer valid"));
+    }
+
+    private RefreshToken findForUpdate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new UnauthorizedException("Refresh token is required");
+        }
+        return refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new UnauthorizedException("Refresh token is no longer valid"));
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
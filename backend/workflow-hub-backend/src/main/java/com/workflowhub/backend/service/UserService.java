@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import com.workflowhub.backend.entity.User;
 import com.workflowhub.backend.exception.ResourceNotFoundException;
 import com.workflowhub.backend.repository.UserRepository;
+import com.workflowhub.backend.security.TokenVersionCache;
 
 @Service
 public class UserService {
@@ -14,6 +15,12 @@ public class UserService {
     @Autowired 
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenVersionCache tokenVersions;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     public User getLoggedInUser() {
 
         String email = SecurityContextHolder
@@ -25,4 +32,26 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
     }
+
+    /* =========================
+       TOKEN REVOCATION
+       ========================= */
+
+    // Both run outside any transaction: the update commits before the cache entry goes
+
+    public void revokeTokens(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        refreshTokenService.revokeAllForUser(userId);
+        tokenVersions.invalidate(userId);
+    }
+
+    public void changeRole(Long userId, User.Role role) {
+        if (userRepository.updateRoleAndTokenVersion(userId, role) == 0) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        refreshTokenService.revokeAllForUser(userId);
+        tokenVersions.invalidate(userId);
+    }
 }
@@ -0,0 +1,277 @@
+package com.workflowhub.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.entity.WorkflowCounter;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowCounterRepository;
+import com.workflowhub.backend.repository.WorkflowRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dashboard counts maintained as workflows change instead of COUNT(*)
+ * on every read.
+ *
+ * Live values are LongAdders in memory. Deltas are flushed to
+ * workflow_counters in the background, and a periodic reconciliation
+ * recomputes everything from the workflows table to repair drift
+ * (e.g. a counted change whose transaction later rolled back).
+ */
+@Service
+public class WorkflowCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowCounterService.class);
+
+    private static final String TOTAL = "total";
+
+    @Autowired
+    private WorkflowCounterRepository counterRepository;
+
+    @Autowired
+    private WorkflowRepository workflowRepository;
+
+    @Autowired
+    private WorkflowVersionStamps versionStamps;
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    // Changes not yet written to workflow_counters
+    private final Map<String, LongAdder> unflushed = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    // Not synchronized: holding a monitor across JDBC pins a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // add() holds the read side; reconcile takes the write side only while
+    // it snapshots counts and unflushed together, never across JDBC
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    /* =========================
+       KEYS
+       ========================= */
+
+    static String statusKey(WorkflowStatus status) {
+        return "status:" + status.name();
+    }
+
+    static String userKey(Long userId, String suffix) {
+        return "user:" + userId + ":" + suffix;
+    }
+
+    /* =========================
+       WRITE PATH
+       ========================= */
+
+    public void recordCreated(Long userId, WorkflowStatus status) {
+        add(statusKey(status), 1);
+        add(userKey(userId, TOTAL), 1);
+        add(userKey(userId, status.name()), 1);
+        versionStamps.created(userId, status);
+    }
+
+    public void recordTransition(Long userId, WorkflowStatus from, WorkflowStatus to) {
+        if (from == to) {
+            return;
+        }
+        add(statusKey(from), -1);
+        add(statusKey(to), 1);
+        add(userKey(userId, from.name()), -1);
+        add(userKey(userId, to.name()), 1);
+        versionStamps.transitioned(userId, from, to);
+    }
+
+    private void add(String key, long delta) {
+        snapshotLock.readLock().lock();
+        try {
+            counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            unflushed.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /* =========================
+       READ PATH
+       ========================= */
+
+    public long statusCount(WorkflowStatus status) {
+        return get(statusKey(status));
+    }
+
+    public long userTotal(Long userId) {
+        return get(userKey(userId, TOTAL));
+    }
+
+    public long userStatusCount(Long userId, WorkflowStatus status) {
+        return get(userKey(userId, status.name()));
+    }
+
+    private long get(String key) {
+        if (!loaded) {
+            load();
+        }
+        LongAdder adder = counts.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /* =========================
+       STARTUP
+       ========================= */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+
+            List<WorkflowCounter> stored = counterRepository.findAll();
+
+            if (stored.isEmpty()) {
+                reconcile();
+            } else {
+                for (WorkflowCounter c : stored) {
+                    // Version stamps share the table but are not counts
+                    if (c.getCounterKey().startsWith(WorkflowVersionStamps.PREFIX)) {
+                        continue;
+                    }
+                    counts.computeIfAbsent(c.getCounterKey(), k -> new LongAdder())
+                            .add(c.getCounterValue());
+                }
+            }
+
+            loaded = true;
+            versionStamps.invalidateAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* =========================
+       BACKGROUND JOBS
+       ========================= */
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${counters.flush-ms:5000}")
+    public void flush() {
+        lock.lock();
+        try {
+            flushUnlocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushUnlocked() {
+        for (Map.Entry<String, LongAdder> e : unflushed.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta == 0) {
+                continue;
+            }
+
+            try {
+                if (counterRepository.addDelta(e.getKey(), delta) == 0) {
+                    // First write for this key, so the delta is the whole value
+                    counterRepository.save(new WorkflowCounter(e.getKey(), delta));
+                }
+            } catch (RuntimeException ex) {
+                // Put it back so the next flush retries
+                e.getValue().add(delta);
+                log.warn("Counter flush failed for {}", e.getKey(), ex);
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${counters.reconcile-ms:600000}",
+            fixedDelayString = "${counters.reconcile-ms:600000}"
+    )
+    public void reconcile() {
+        lock.lock();
+        try {
+            /*
+             * Sums as of just before the GROUP BYs. Changes counted after
+             * this point are missing from both the snapshot and (for
+             * transactions committed later) the truth, so correcting
+             * against the snapshot leaves them in place.
+             */
+            Map<String, Long> countsSeen = new HashMap<>();
+            Map<String, Long> unflushedSeen = new HashMap<>();
+
+            snapshotLock.writeLock().lock();
+            try {
+                counts.forEach((key, adder) -> countsSeen.put(key, adder.sum()));
+                unflushed.forEach((key, adder) -> unflushedSeen.put(key, adder.sum()));
+            } finally {
+                snapshotLock.writeLock().unlock();
+            }
+
+            Map<String, Long> truth = new HashMap<>();
+
+            for (WorkflowStatus status : WorkflowStatus.values()) {
+                truth.put(statusKey(status), 0L);
+            }
+            for (Object[] row : workflowRepository.countGroupedByStatus()) {
+                truth.put(statusKey((WorkflowStatus) row[0]), (Long) row[1]);
+            }
+            for (Object[] row : workflowRepository.countGroupedByUserAndStatus()) {
+                Long userId = (Long) row[0];
+                WorkflowStatus status = (WorkflowStatus) row[1];
+                long count = (Long) row[2];
+
+                truth.put(userKey(userId, status.name()), count);
+                truth.merge(userKey(userId, TOTAL), count, Long::sum);
+            }
+
+            // Keys that no longer have rows drop back to zero
+            for (String key : countsSeen.keySet()) {
+                truth.putIfAbsent(key, 0L);
+            }
+
+            boolean corrected = false;
+            List<WorkflowCounter> rows = new ArrayList<>(truth.size());
+            for (Map.Entry<String, Long> e : truth.entrySet()) {
+                long drift = e.getValue() - countsSeen.getOrDefault(e.getKey(), 0L);
+                if (drift != 0) {
+                    counts.computeIfAbsent(e.getKey(), k -> new LongAdder()).add(drift);
+                    corrected = true;
+                }
+                rows.add(new WorkflowCounter(e.getKey(), e.getValue()));
+            }
+
+            // Dashboards served as unchanged may now be wrong
+            if (corrected) {
+                versionStamps.invalidateAll();
+            }
+
+            counterRepository.saveAll(rows);
+
+            // The stored rows cover the snapshot; later changes stay queued
+            unflushedSeen.forEach((key, delta) -> unflushed.get(key).add(-delta));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.workflowhub.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.exception.InvalidRequestException;
+import com.workflowhub.backend.repository.WorkflowSearchRepository;
+import com.workflowhub.backend.repository.WorkflowSearchRepository.Document;
+
+/**
+ * In-memory inverted index over workflow titles and descriptions.
+ *
+ * Each term maps to a postings list of (workflow id, weighted term
+ * frequency) sorted by id; title occurrences count TITLE_WEIGHT times.
+ * A query matches workflows containing every term. It walks the shortest
+ * postings list, probes the others by binary search, applies the status
+ * and requester filters, and ranks hits with BM25.
+ *
+ * The index is updated as workflows are created and decided, and can be
+ * rebuilt from the database. A rebuild fills a fresh index off to the
+ * side, replays whatever changed meanwhile, then swaps it in.
+ */
+@Service
+public class WorkflowSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowSearchIndex.class);
+
+    static final int TITLE_WEIGHT = 3;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in",
+            "is", "it", "of", "on", "or", "the", "to", "with");
+
+    @Autowired
+    private WorkflowSearchRepository searchRepository;
+
+    private volatile Index index = new Index();
+
+    // Changes made while a rebuild is running, replayed onto the new index
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private List<Consumer<Index>> pendingDuringRebuild;
+
+    /* =========================
+       RESULTS
+       ========================= */
+
+    public record Hit(Long id, double score) {
+    }
+
+    public record Result(List<Hit> hits, boolean hasMore) {
+    }
+
+    /* =========================
+       WRITE PATH
+       ========================= */
+
+    public void add(Document doc) {
+        apply(i -> i.add(doc));
+    }
+
+    public void updateStatus(Long id, WorkflowStatus status) {
+        apply(i -> i.updateStatus(id, status));
+    }
+
+    private void apply(Consumer<Index> change) {
+        rebuildLock.lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Initial search index build failed", e);
+            }
+        }, "search-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /* Returns the number of indexed workflows */
+    public int rebuild() {
+        rebuildLock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                throw new InvalidRequestException("A search index rebuild is already running");
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+
+        long start = System.nanoTime();
+        Index fresh = new Index();
+
+        try {
+            searchRepository.streamAll(fresh::add);
+        } catch (RuntimeException e) {
+            rebuildLock.lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                rebuildLock.unlock();
+            }
+            throw e;
+        }
+
+        rebuildLock.lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            index = fresh;
+        } finally {
+            rebuildLock.unlock();
+        }
+
+        log.info("Search index rebuilt: {} workflows, {} terms in {} ms",
+                fresh.size(), fresh.terms(), (System.nanoTime() - start) / 1_000_000);
+        return fresh.size();
+    }
+
+    /* =========================
+       READ PATH
+       ========================= */
+
+    public Result search(String query, WorkflowStatus status, Long userId, int offset, int size) {
+        return index.search(tokenize(query), status, userId, offset, size);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /* Lower-cased letter/digit runs, minus stop words and single characters */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                String token = text.substring(start, i).toLowerCase();
+                if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /* =========================
+       INDEX
+       ========================= */
+
+    static final class Index {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, DocInfo> docs = new HashMap<>();
+        private long totalLength;
+
+        void add(Document doc) {
+            Map<String, Integer> tf = new HashMap<>();
+            tokenize(doc.title()).forEach(t -> tf.merge(t, TITLE_WEIGHT, Integer::sum));
+            tokenize(doc.description()).forEach(t -> tf.merge(t, 1, Integer::sum));
+
+            int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+
+            lock.writeLock().lock();
+            try {
+                if (docs.putIfAbsent(doc.id(), new DocInfo(doc.status(), doc.userId(), length)) != null) {
+                    // Replayed after a rebuild that already saw it
+                    return;
+                }
+                totalLength += length;
+                tf.forEach((term, freq) ->
+                        postings.computeIfAbsent(term, t -> new Postings()).add(doc.id(), freq));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void updateStatus(Long id, WorkflowStatus status) {
+            lock.readLock().lock();
+            try {
+                DocInfo info = docs.get(id);
+                if (info != null) {
+                    info.status = status;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return docs.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int terms() {
+            lock.readLock().lock();
+            try {
+                return postings.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Result search(List<String> tokens, WorkflowStatus status, Long userId, int offset, int size) {
+            List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokens));
+            if (terms.isEmpty()) {
+                return new Result(List.of(), false);
+            }
+
+            lock.readLock().lock();
+            try {
+                Postings[] lists = new Postings[terms.size()];
+                for (int i = 0; i < lists.length; i++) {
+                    lists[i] = postings.get(terms.get(i));
+                    if (lists[i] == null) {
+                        return new Result(List.of(), false);
+                    }
+                }
+                Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+
+                int n = docs.size();
+                double avgLength = n == 0 ? 1 : (double) totalLength / n;
+
+                double[] idf = new double[lists.length];
+                for (int i = 0; i < lists.length; i++) {
+                    idf[i] = Math.log(1 + (n - lists[i].size + 0.5) / (lists[i].size + 0.5));
+                }
+
+                // Min-heap holding the best offset + size + 1 hits
+                int keep = offset + size + 1;
+                PriorityQueue<Hit> best = new PriorityQueue<>(keep,
+                        Comparator.comparingDouble(Hit::score).thenComparing(Hit::id));
+
+                Postings shortest = lists[0];
+                int[] cursors = new int[lists.length];
+
+                candidates:
+                for (int c = 0; c < shortest.size; c++) {
+                    long id = shortest.ids[c];
+
+                    DocInfo info = docs.get(id);
+                    if ((status != null && info.status != status)
+                            || (userId != null && !userId.equals(info.userId))) {
+                        continue;
+                    }
+
+                    double norm = K1 * (1 - B + B * info.length / avgLength);
+                    double score = 0;
+
+                    for (int i = 0; i < lists.length; i++) {
+                        int tf;
+                        if (i == 0) {
+                            tf = shortest.tf[c];
+                        } else {
+                            // Candidates ascend, so each probe can start where the last one ended
+                            int at = lists[i].find(id, cursors[i]);
+                            if (at < 0) {
+                                cursors[i] = -at - 1;
+                                continue candidates;
+                            }
+                            cursors[i] = at;
+                            tf = lists[i].tf[at];
+                        }
+                        score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                    }
+
+                    best.offer(new Hit(id, score));
+                    if (best.size() > keep) {
+                        best.poll();
+                    }
+                }
+
+                List<Hit> ranked = new ArrayList<>(best);
+                ranked.sort(Comparator.comparingDouble(Hit::score).reversed()
+                        .thenComparing(Hit::id, Comparator.reverseOrder()));
+
+                boolean hasMore = ranked.size() > offset + size;
+                List<Hit> page = offset >= ranked.size()
+                        ? List.of()
+                        : ranked.subList(offset, Math.min(ranked.size(), offset + size));
+                return new Result(List.copyOf(page), hasMore);
+
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private static final class DocInfo {
+
+        volatile WorkflowStatus status;
+        final Long userId;
+        final int length;
+
+        DocInfo(WorkflowStatus status, Long userId, int length) {
+            this.status = status;
+            this.userId = userId;
+            this.length = length;
+        }
+    }
+
+    /* Parallel id / frequency arrays, ascending by id */
+    private static final class Postings {
+
+        long[] ids = new long[4];
+        int[] tf = new int[4];
+        int size;
+
+        void add(long id, int freq) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                tf = Arrays.copyOf(tf, size * 2);
+            }
+
+            int at = size;
+            if (size > 0 && ids[size - 1] > id) {
+                // Out of order (changes replayed after a rebuild); keep it sorted
+                at = -Arrays.binarySearch(ids, 0, size, id) - 1;
+                System.arraycopy(ids, at, ids, at + 1, size - at);
+                System.arraycopy(tf, at, tf, at + 1, size - at);
+            }
+
+            ids[at] = id;
+            tf[at] = freq;
+            size++;
+        }
+
+        /* Index of id at or after from, or -(insertion point) - 1 */
+        int find(long id, int from) {
+            return Arrays.binarySearch(ids, from, size, id);
+        }
+    }
+}
@@ -1,30 +1,63 @@
 package com.workflowhub.backend.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.dto.WorkflowSummary;
 import com.workflowhub.backend.entity.User;
 import com.workflowhub.backend.entity.Workflow;
 import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.exception.ConflictException;
+import com.workflowhub.backend.exception.InvalidRequestException;
+import com.workflowhub.backend.exception.ResourceNotFoundException;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
 import com.workflowhub.backend.repository.WorkflowRepository;
+import com.workflowhub.backend.repository.WorkflowSearchRepository.Document;
 
 @Service
 public class WorkflowService {
 
+    /* Ranked results are paged by offset; past this, refine the query instead */
+    public static final int MAX_SEARCH_OFFSET = 1000;
+
     @Autowired
     private WorkflowRepository workflowRepository;
 
     @Autowired
-    private WorkflowEventService workflowEventService;
+    private WorkflowBulkRepository bulkRepository;
+
+    @Autowired
+    private WorkflowTransitionLog transitionLog;
+
+    @Autowired
+    private WorkflowCounterService counterService;
+
+    @Autowired
+    private WorkflowSearchIndex searchIndex;
+
+    @Autowired
+    private OutboxService outboxService;
 
     /* =========================
        USER – CREATE WORKFLOW
        ========================= */
+    @Transactional
     public Workflow createWorkflow(Workflow workflow) {
 
         if (workflow.getUser() == null) {
@@ -35,14 +68,34 @@ public class WorkflowService {
 
         Workflow saved = workflowRepository.save(workflow);
 
-        if (saved.getUser() != null) {
-            workflowEventService.logEvent(
-                saved,
-                WorkflowStatus.PENDING,
-                "CREATED",
-                saved.getUser().getEmail()
-            );
-        }
+        transitionLog.record(
+            saved.getId(),
+            null,
+            WorkflowStatus.PENDING,
+            "CREATED",
+            saved.getUser().getEmail()
+        );
+
+        // Admins hear about it only if the request commits
+        outboxService.enqueue(
+            BroadcastOutboxHandler.TYPE,
+            saved.getId(),
+            new BroadcastOutboxHandler.Payload(
+                User.Role.ADMIN,
+                "New request submitted by " + saved.getUser().getName()
+            )
+        );
+
+        Long userId = saved.getUser().getId();
+        Document document = new Document(
+            saved.getId(), saved.getTitle(), saved.getDescription(),
+            saved.getStatus(), userId
+        );
+
+        afterCommit(() -> {
+            counterService.recordCreated(userId, WorkflowStatus.PENDING);
+            searchIndex.add(document);
+        });
 
         return saved;
     }
@@ -51,65 +104,180 @@ public class WorkflowService {
     /* =========================
        USER – MY WORKFLOWS
        ========================= */
-    public List<Workflow> myWorkflows(Long userId) {
-        return workflowRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public CursorPage<WorkflowSummary> myWorkflows(Long userId, String cursor, Integer size) {
+
+        int pageSize = PageCursor.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<WorkflowSummary> rows;
+
+        if (cursor == null || cursor.isBlank()) {
+            rows = workflowRepository.findPageByUser(userId, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = workflowRepository.findPageByUserAfter(
+                userId, after.getCreatedAt(), after.getId(), limit
+            );
+        }
+
+        return CursorPage.of(rows, pageSize, WorkflowService::cursorOf);
     }
 
     /* =========================
        ADMIN – PENDING QUEUE
        ========================= */
-    public List<Workflow> pendingWorkflows() {
-        return workflowRepository.findByStatusOrderByCreatedAtDesc(
-            WorkflowStatus.PENDING
-        );
+    public CursorPage<WorkflowSummary> pendingWorkflows(String cursor, Integer size) {
+
+        int pageSize = PageCursor.resolveSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<WorkflowSummary> rows;
+
+        if (cursor == null || cursor.isBlank()) {
+            rows = workflowRepository.findPageByStatus(WorkflowStatus.PENDING, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = workflowRepository.findPageByStatusAfter(
+                WorkflowStatus.PENDING, after.getCreatedAt(), after.getId(), limit
+            );
+        }
+
+        return CursorPage.of(rows, pageSize, WorkflowService::cursorOf);
+    }
+
+    static String cursorOf(WorkflowSummary workflow) {
+        return new PageCursor(workflow.getCreatedAt(), workflow.getId()).encode();
     }
 
     /* =========================
-       ADMIN – APPROVE
+       SEARCH
        ========================= */
-    public Workflow approve(Long workflowId, User adminUser) {
+    public CursorPage<WorkflowSummary> search(
+            String query,
+            WorkflowStatus status,
+            Long userId,
+            String cursor,
+            Integer size
+    ) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("A search query is required");
+        }
 
-        Workflow wf = workflowRepository.findById(workflowId)
-            .orElseThrow(() -> new RuntimeException("Workflow not found"));
+        int pageSize = PageCursor.resolveSize(size);
+        int offset = decodeOffset(cursor);
 
-        wf.setStatus(WorkflowStatus.APPROVED);
-        wf.setApprovedAt(LocalDateTime.now());
-        wf.setApprovedBy(adminUser);
+        WorkflowSearchIndex.Result result =
+                searchIndex.search(query, status, userId, offset, pageSize);
 
-        Workflow saved = workflowRepository.save(wf);
+        if (result.hits().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
 
-        workflowEventService.logEvent(
-            saved,
-            WorkflowStatus.APPROVED,
-            "APPROVED",
-            adminUser.getEmail()
-        );
+        List<Long> ids = result.hits().stream().map(WorkflowSearchIndex.Hit::id).toList();
 
-        return saved;
+        Map<Long, WorkflowSummary> rows = workflowRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(WorkflowSummary::getId, Function.identity()));
+
+        // Rank order; a hit deleted since it was indexed is simply skipped
+        List<WorkflowSummary> items = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        int next = offset + pageSize;
+        String nextCursor = result.hasMore() && next <= MAX_SEARCH_OFFSET
+                ? encodeOffset(next)
+                : null;
+
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private static String encodeOffset(int offset) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(("o" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int offset = Integer.parseInt(raw.substring(1));
+            if (raw.charAt(0) != 'o' || offset < 0 || offset > MAX_SEARCH_OFFSET) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid page cursor");
+        }
     }
 
     /* =========================
-       ADMIN – REJECT
+       ADMIN – APPROVE / REJECT
        ========================= */
-    public Workflow reject(Long workflowId, User adminUser) {
+    @Transactional
+    public Workflow approve(Long workflowId, User adminUser, Long expectedVersion) {
+        return decide(workflowId, WorkflowStatus.APPROVED, adminUser, expectedVersion);
+    }
 
-        Workflow wf = workflowRepository.findById(workflowId)
-            .orElseThrow(() -> new RuntimeException("Workflow not found"));
+    @Transactional
+    public Workflow reject(Long workflowId, User adminUser, Long expectedVersion) {
+        return decide(workflowId, WorkflowStatus.REJECTED, adminUser, expectedVersion);
+    }
+
+    /*
+     * One conditional UPDATE decides the workflow; whoever loses a race
+     * (or passes a stale version) gets a ConflictException instead of
+     * overwriting the winner's decision.
+     */
+    private Workflow decide(Long workflowId, WorkflowStatus decision,
+                            User adminUser, Long expectedVersion) {
 
-        wf.setStatus(WorkflowStatus.REJECTED);
-        wf.setApprovedAt(LocalDateTime.now());
-        wf.setApprovedBy(adminUser);
+        int updated = bulkRepository.decideOne(
+            workflowId, decision, adminUser.getId(), LocalDateTime.now(), expectedVersion
+        );
 
-        Workflow saved = workflowRepository.save(wf);
+        Workflow wf = workflowRepository.findById(workflowId)
+            .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+
+        if (updated == 0) {
+            if (wf.getStatus() != WorkflowStatus.PENDING) {
+                throw new ConflictException(
+                    "Workflow " + workflowId + " is already " + wf.getStatus());
+            }
+            throw new ConflictException(
+                "Workflow " + workflowId + " has changed since version " + expectedVersion);
+        }
 
-        workflowEventService.logEvent(
-            saved,
-            WorkflowStatus.REJECTED,
-            "REJECTED",
+        transitionLog.record(
+            workflowId,
+            WorkflowStatus.PENDING,
+            decision,
+            decision.name(),
             adminUser.getEmail()
         );
 
-        return saved;
+        Long userId = wf.getUser().getId();
+
+        afterCommit(() -> {
+            counterService.recordTransition(userId, WorkflowStatus.PENDING, decision);
+            searchIndex.updateStatus(workflowId, decision);
+        });
+
+        return wf;
+    }
+
+    /* Counters and the search index only ever see committed changes */
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
     }
 
     /* =========================
@@ -119,13 +287,13 @@ public class WorkflowService {
 
         Map<String, Long> map = new HashMap<>();
 
-        map.put("total", workflowRepository.countByUserId(userId));
+        map.put("total", counterService.userTotal(userId));
         map.put("pending",
-                workflowRepository.countByUserIdAndStatus(userId, WorkflowStatus.PENDING));
+                counterService.userStatusCount(userId, WorkflowStatus.PENDING));
         map.put("approved",
-                workflowRepository.countByUserIdAndStatus(userId, WorkflowStatus.APPROVED));
+                counterService.userStatusCount(userId, WorkflowStatus.APPROVED));
         map.put("rejected",
-                workflowRepository.countByUserIdAndStatus(userId, WorkflowStatus.REJECTED));
+                counterService.userStatusCount(userId, WorkflowStatus.REJECTED));
 
         return map;
     }
@@ -138,11 +306,11 @@ public class WorkflowService {
         Map<String, Long> map = new HashMap<>();
 
         map.put("pending",
-                workflowRepository.countByStatus(WorkflowStatus.PENDING));
+                counterService.statusCount(WorkflowStatus.PENDING));
         map.put("approved",
-                workflowRepository.countByStatus(WorkflowStatus.APPROVED));
+                counterService.statusCount(WorkflowStatus.APPROVED));
         map.put("rejected",
-                workflowRepository.countByStatus(WorkflowStatus.REJECTED));
+                counterService.statusCount(WorkflowStatus.REJECTED));
 
         return map;
     }
@@ -0,0 +1,91 @@
+package com.workflowhub.backend.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-workflow timelines, cached until a new transition for the workflow
+ * commits.
+ *
+ * Invalidation only reaches this node, so an open timeline also expires a
+ * few seconds after it was loaded, however often it is read; that bounds
+ * how long a decision recorded on another node goes unseen here. Finalized
+ * timelines cannot change and are kept much longer.
+ *
+ * The log is append-only, so a timeline is identified by its length and
+ * its last entry id; that pair is the strong ETag. A workflow whose last
+ * transition is APPROVED or REJECTED never changes again, which lets the
+ * controller hand out long-lived cache headers for it.
+ */
+@Component
+public class WorkflowTimelineCache {
+
+    public record Timeline(List<WorkflowTransition> entries, String etag, boolean finalized) {
+    }
+
+    private final Cache<Long, Timeline> cache;
+
+    public WorkflowTimelineCache(
+            MeterRegistry meterRegistry,
+            @Value("${workflow.timeline.cache.max-size:50000}") long maxSize,
+            @Value("${workflow.timeline.cache.open-ttl-seconds:5}") long openTtlSeconds,
+            @Value("${workflow.timeline.cache.finalized-ttl-minutes:60}") long finalizedTtlMinutes
+    ) {
+        this(meterRegistry, maxSize, Duration.ofSeconds(openTtlSeconds),
+                Duration.ofMinutes(finalizedTtlMinutes), Ticker.systemTicker());
+    }
+
+    WorkflowTimelineCache(MeterRegistry meterRegistry, long maxSize,
+                          Duration openTtl, Duration finalizedTtl, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<Long, Timeline>writing(
+                        (id, timeline) -> timeline.finalized() ? finalizedTtl : openTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        // workflow.timeline cache.gets{result=hit|miss}, cache.size, cache.evictions
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "workflow.timeline");
+    }
+
+    /*
+     * An invalidation that races a load waits for the load to finish and
+     * then removes its result, so a stale timeline cannot outlive the
+     * commit that made it stale.
+     */
+    public Timeline get(Long workflowId, Function<Long, List<WorkflowTransition>> loader) {
+        return cache.get(workflowId, id -> of(id, loader.apply(id)));
+    }
+
+    public void invalidateAll(Collection<Long> workflowIds) {
+        cache.invalidateAll(workflowIds);
+    }
+
+    static Timeline of(Long workflowId, List<WorkflowTransition> entries) {
+        List<WorkflowTransition> frozen = List.copyOf(entries);
+
+        long lastId = frozen.isEmpty() ? 0 : frozen.get(frozen.size() - 1).getId();
+        String etag = "t" + workflowId + "-" + frozen.size() + "-" + lastId;
+
+        WorkflowStatus last = frozen.isEmpty() ? null : frozen.get(frozen.size() - 1).getToStatus();
+        boolean finalized = last == WorkflowStatus.APPROVED || last == WorkflowStatus.REJECTED;
+
+        return new Timeline(frozen, etag, finalized);
+    }
+}
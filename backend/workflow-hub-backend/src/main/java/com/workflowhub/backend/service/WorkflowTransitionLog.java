@@ -0,0 +1,92 @@
+package com.workflowhub.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+import com.workflowhub.backend.service.WorkflowTimelineCache.Timeline;
+
+/**
+ * The single write path into the workflow transition log.
+ *
+ * Every state change records its transition here from inside its own
+ * transaction. Entries are collected per transaction and written as one
+ * sorted batch just before commit, so the log row and the state change
+ * commit or roll back together. Cached timelines of the touched
+ * workflows are dropped once the commit has gone through.
+ */
+@Service
+public class WorkflowTransitionLog {
+
+    @Autowired
+    private WorkflowTransitionRepository transitionRepository;
+
+    @Autowired
+    private WorkflowTimelineCache timelineCache;
+
+    /* =========================
+       WRITE
+       ========================= */
+
+    public void record(Long workflowId, WorkflowStatus from, WorkflowStatus to,
+                       String action, String performedBy) {
+        pending().add(new WorkflowTransition(
+                workflowId, from, to, action, performedBy, LocalDateTime.now()));
+    }
+
+    public void recordAll(List<WorkflowTransition> transitions) {
+        pending().addAll(transitions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WorkflowTransition> pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException(
+                    "Workflow transitions must be recorded inside the transaction that makes them");
+        }
+
+        List<WorkflowTransition> pending =
+                (List<WorkflowTransition>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<WorkflowTransition> batch = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, batch);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                transitionRepository.appendAll(batch);
+            }
+
+            @Override
+            public void afterCommit() {
+                timelineCache.invalidateAll(
+                        batch.stream().map(WorkflowTransition::getWorkflowId).distinct().toList());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WorkflowTransitionLog.this);
+            }
+        });
+        return batch;
+    }
+
+    /* =========================
+       READ
+       ========================= */
+
+    /* Served from the cache; only the first view after a change reads the table */
+    public Timeline timeline(Long workflowId) {
+        return timelineCache.get(workflowId, transitionRepository::findByWorkflowId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.workflowhub.backend.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+
+/**
+ * One-time copy of workflow_events and workflow_status_history into
+ * workflow_transitions.
+ *
+ * Runs on startup while either legacy table still exists. The copy goes
+ * in workflow id ranges, each its own statement, and skips anything the
+ * log already has, so an interrupted run simply resumes on the next
+ * start. Once the counts have been checked the legacy tables can be
+ * dropped and this becomes a no-op.
+ */
+@Service
+public class WorkflowTransitionMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowTransitionMigration.class);
+
+    /* table, status column, actor column, time column */
+    private static final String[][] LEGACY_TABLES = {
+            { "workflow_events", "status", "performed_by", "created_at" },
+            { "workflow_status_history", "status", "action_by", "action_at" }
+    };
+
+    @Autowired
+    private WorkflowTransitionRepository transitionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${workflow.transitions.migrate-legacy:true}")
+    private boolean enabled;
+
+    @Value("${workflow.transitions.migrate-range:10000}")
+    private long range;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (RuntimeException e) {
+            // Not fatal: new transitions are logged either way, the copy retries next start
+            log.error("Legacy workflow history migration failed", e);
+        }
+    }
+
+    /* Returns the number of rows copied */
+    public int migrate() {
+        Set<String> tables = existingTables();
+        int copied = 0;
+
+        for (String[] legacy : LEGACY_TABLES) {
+            String table = legacy[0];
+            if (!tables.contains(table)) {
+                continue;
+            }
+
+            Long maxWorkflowId = transitionRepository.maxWorkflowId(table);
+            if (maxWorkflowId == null) {
+                continue;
+            }
+
+            int fromTable = 0;
+            for (long from = 0; from < maxWorkflowId; from += range) {
+                fromTable += transitionRepository.migrateLegacy(
+                        table, legacy[1], legacy[2], legacy[3], from, from + range);
+            }
+
+            if (fromTable > 0) {
+                log.info("Copied {} rows from {} into workflow_transitions", fromTable, table);
+            }
+            copied += fromTable;
+        }
+        return copied;
+    }
+
+    private Set<String> existingTables() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, md -> {
+                Set<String> found = new HashSet<>();
+                String catalog = md.getConnection().getCatalog();
+                for (String[] legacy : LEGACY_TABLES) {
+                    for (String name : Set.of(legacy[0], legacy[0].toUpperCase())) {
+                        try (var rs = md.getTables(catalog, null, name, new String[] { "TABLE" })) {
+                            if (rs.next()) {
+                                found.add(legacy[0]);
+                            }
+                        }
+                    }
+                }
+                return found;
+            });
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not read database metadata", e);
+        }
+    }
+}
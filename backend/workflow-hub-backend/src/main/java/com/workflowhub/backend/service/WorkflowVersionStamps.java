@@ -0,0 +1,135 @@
+package com.workflowhub.backend.service;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.workflowhub.backend.entity.WorkflowCounter;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowCounterRepository;
+
+/**
+ * Cheap change markers for workflow reads, one per requester and one per
+ * status, bumped as committed workflow changes are counted.
+ *
+ * A read whose stamp has not moved since the client's copy cannot have
+ * changed, so ConditionalGetInterceptor can answer it with 304 without
+ * touching the database for the data itself.
+ *
+ * Stamps are "version:" rows in workflow_counters, shared by every node.
+ * Each node reads them through a short-lived cache, so a change made on
+ * another node stops being answered 304 here within one TTL. Rows only
+ * ever grow, which also keeps a restart from reproducing an old stamp.
+ */
+@Component
+public class WorkflowVersionStamps {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowVersionStamps.class);
+
+    static final String PREFIX = "version:";
+
+    // Bumped when everything may have changed at once (counter reconciliation)
+    private static final String GENERATION = PREFIX + "generation";
+
+    private final WorkflowCounterRepository counterRepository;
+
+    private final LoadingCache<String, Long> cache;
+
+    public WorkflowVersionStamps(
+            WorkflowCounterRepository counterRepository,
+            @Value("${workflow.stamps.ttl-ms:1000}") long ttlMillis
+    ) {
+        this(counterRepository, Duration.ofMillis(ttlMillis), Ticker.systemTicker());
+    }
+
+    WorkflowVersionStamps(WorkflowCounterRepository counterRepository, Duration ttl, Ticker ticker) {
+        this.counterRepository = counterRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build(key -> counterRepository.findById(key)
+                        .map(WorkflowCounter::getCounterValue)
+                        .orElse(0L));
+    }
+
+    static String userKey(Long userId) {
+        return PREFIX + "user:" + userId;
+    }
+
+    static String statusKey(WorkflowStatus status) {
+        return PREFIX + "status:" + status.name();
+    }
+
+    /* =========================
+       WRITE
+       ========================= */
+
+    public void created(Long userId, WorkflowStatus status) {
+        bump(userKey(userId));
+        bump(statusKey(status));
+    }
+
+    public void transitioned(Long userId, WorkflowStatus from, WorkflowStatus to) {
+        bump(userKey(userId));
+        bump(statusKey(from));
+        bump(statusKey(to));
+    }
+
+    public void invalidateAll() {
+        bump(GENERATION);
+    }
+
+    /*
+     * Runs after the change has committed, in its own short transaction.
+     * A bump that fails leaves the stamp behind until the next change or
+     * reconciliation, so it is logged rather than thrown at the caller.
+     */
+    private void bump(String key) {
+        try {
+            if (counterRepository.increment(key) == 0) {
+                try {
+                    counterRepository.insertOne(key);
+                } catch (DataIntegrityViolationException e) {
+                    // Another node created the row first
+                    counterRepository.increment(key);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Version stamp bump failed for {}", key, e);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    /* =========================
+       READ
+       ========================= */
+
+    public String user(Long userId) {
+        return prefix() + "u" + cache.get(userKey(userId));
+    }
+
+    public String status(WorkflowStatus status) {
+        return prefix() + "s" + cache.get(statusKey(status));
+    }
+
+    public String allStatuses() {
+        StringBuilder stamp = new StringBuilder(prefix());
+        for (WorkflowStatus status : WorkflowStatus.values()) {
+            stamp.append('s').append(cache.get(statusKey(status)));
+        }
+        return stamp.toString();
+    }
+
+    private String prefix() {
+        return "g" + cache.get(GENERATION) + ".";
+    }
+}
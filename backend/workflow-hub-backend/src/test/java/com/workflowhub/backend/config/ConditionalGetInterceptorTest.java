@@ -0,0 +1,124 @@
+package com.workflowhub.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.workflowhub.backend.controller.DashboardController;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.security.CustomUserDetails;
+import com.workflowhub.backend.service.VersionStampsFixture;
+import com.workflowhub.backend.service.WorkflowService;
+import com.workflowhub.backend.service.WorkflowVersionStamps;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConditionalGetInterceptorTest {
+
+    private final WorkflowService workflowService = mock(WorkflowService.class);
+    private final WorkflowVersionStamps stamps = VersionStampsFixture.inMemory();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        DashboardController controller = new DashboardController();
+        ReflectionTestUtils.setField(controller, "workflowService", workflowService);
+
+        ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor();
+        ReflectionTestUtils.setField(interceptor, "stamps", stamps);
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", registry);
+
+        mvc = MockMvcBuilders.standaloneSetup(controller).addInterceptors(interceptor).build();
+
+        when(workflowService.getUserDashboardSummary(7L)).thenReturn(Map.of("total", 3L));
+        when(workflowService.getAdminDashboardSummary()).thenReturn(Map.of("pending", 1L));
+    }
+
+    @Test
+    void unchangedUserDashboardIsAnswered304WithoutTheService() throws Exception {
+        String etag = fetchEtag("/api/dashboard/employee", employee(7L));
+
+        mvc.perform(get("/api/dashboard/employee").principal(employee(7L)).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(workflowService, times(1)).getUserDashboardSummary(7L);
+        assertThat(registry.counter("http.conditional.get",
+                "scope", "USER", "result", "not_modified").count()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyTheAffectedUsersStampMoves() throws Exception {
+        String etag = fetchEtag("/api/dashboard/employee", employee(7L));
+
+        stamps.created(8L, WorkflowStatus.PENDING);
+        mvc.perform(get("/api/dashboard/employee").principal(employee(7L)).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        stamps.transitioned(7L, WorkflowStatus.PENDING, WorkflowStatus.APPROVED);
+        mvc.perform(get("/api/dashboard/employee").principal(employee(7L)).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void usersOnTheSameStampNeverShareAnEtag() throws Exception {
+        when(workflowService.getUserDashboardSummary(9L)).thenReturn(Map.of("total", 5L));
+
+        // Neither user has changed anything, so both stamps are u0
+        String first = fetchEtag("/api/dashboard/employee", employee(7L));
+        String second = fetchEtag("/api/dashboard/employee", employee(9L));
+        assertThat(second).isNotEqualTo(first);
+
+        // Same browser, next login: the previous user's tag must not match
+        mvc.perform(get("/api/dashboard/employee").principal(employee(9L)).header("If-None-Match", first))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Vary", "Authorization"));
+        verify(workflowService, times(2)).getUserDashboardSummary(9L);
+    }
+
+    @Test
+    void statusStampsDriveTheAdminDashboard() throws Exception {
+        String etag = fetchEtag("/api/dashboard/admin", employee(1L));
+
+        stamps.created(8L, WorkflowStatus.PENDING);
+        mvc.perform(get("/api/dashboard/admin").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        String fresh = fetchEtag("/api/dashboard/admin", employee(1L));
+        stamps.invalidateAll();
+        mvc.perform(get("/api/dashboard/admin").header("If-None-Match", fresh))
+                .andExpect(status().isOk());
+    }
+
+    private String fetchEtag(String uri, Authentication principal) throws Exception {
+        return mvc.perform(get(uri).principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    private static Authentication employee(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(User.Role.EMPLOYEE);
+        CustomUserDetails details = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+    }
+}
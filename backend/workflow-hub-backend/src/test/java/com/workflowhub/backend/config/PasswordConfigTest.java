@@ -0,0 +1,38 @@
+package com.workflowhub.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordConfigTest {
+
+    @Test
+    void picksTheHighestCostWithinTheBudget() {
+        // Cost 8 at 4 ms: 9 -> 8 ms, 10 -> 16, 11 -> 32, 12 -> 64, 13 -> 128, 14 -> 256
+        assertThat(PasswordConfig.costFor(4, 250)).isEqualTo(13);
+        assertThat(PasswordConfig.costFor(4, 256)).isEqualTo(14);
+        // Slow hosts still get the floor, fast ones stop at the ceiling
+        assertThat(PasswordConfig.costFor(200, 250)).isEqualTo(PasswordConfig.MIN_COST);
+        assertThat(PasswordConfig.costFor(0.001, 250)).isEqualTo(PasswordConfig.MAX_COST);
+    }
+
+    @Test
+    void upgradesLegacyAndCheaperHashes() {
+        PasswordEncoder encoder = PasswordConfig.delegating(5);
+
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+
+        String cheaper = PasswordConfig.delegating(4).encode("secret");
+        assertThat(cheaper).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder.matches("secret", cheaper)).isTrue();
+        assertThat(encoder.upgradeEncoding(cheaper)).isTrue();
+
+        String current = encoder.encode("secret");
+        assertThat(current).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package com.workflowhub.backend.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+import com.workflowhub.backend.service.WorkflowTimelineCache.Timeline;
+import com.workflowhub.backend.service.WorkflowTransitionLog;
+
+class WorkflowTimelineControllerTest {
+
+    private final WorkflowTransitionLog transitionLog = mock(WorkflowTransitionLog.class);
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        WorkflowTimelineController controller = new WorkflowTimelineController();
+        ReflectionTestUtils.setField(controller, "transitionLog", transitionLog);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void pendingTimelineIsRevalidatedWithItsEtag() throws Exception {
+        when(transitionLog.timeline(7L)).thenReturn(new Timeline(
+                List.of(transition(WorkflowStatus.PENDING, "CREATED")), "t7-1-1", false));
+
+        mvc.perform(get("/api/workflows/7/timeline"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"t7-1-1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$[0].action").value("CREATED"));
+
+        mvc.perform(get("/api/workflows/7/timeline").header("If-None-Match", "\"t7-1-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void finalizedTimelineIsCacheableForAYear() throws Exception {
+        when(transitionLog.timeline(7L)).thenReturn(new Timeline(
+                List.of(transition(WorkflowStatus.APPROVED, "APPROVED")), "t7-2-9", true));
+
+        mvc.perform(get("/api/workflows/7/timeline").header("If-None-Match", "\"t7-1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, private, immutable"));
+    }
+
+    private static WorkflowTransition transition(WorkflowStatus to, String action) {
+        return new WorkflowTransition(7L, null, to, action, "emp@example.com",
+                LocalDateTime.of(2025, 1, 1, 9, 0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.workflowhub.backend.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.workflowhub.backend.exception.InvalidRequestException;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndId() {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_000);
+
+        PageCursor decoded = PageCursor.decode(new PageCursor(at, 42L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(at);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new PageCursor(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "not base64!", "MjAyNi0wMS0wMQ", "bm8tc2VwYXJhdG9y" })
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> PageCursor.decode(token))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    void rejectsNonNumericId() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-01-01T00:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PageCursor.decode(token))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void resolvesSizeWithinBounds() {
+        assertThat(PageCursor.resolveSize(null)).isEqualTo(PageCursor.DEFAULT_SIZE);
+        assertThat(PageCursor.resolveSize(0)).isEqualTo(PageCursor.DEFAULT_SIZE);
+        assertThat(PageCursor.resolveSize(-5)).isEqualTo(PageCursor.DEFAULT_SIZE);
+        assertThat(PageCursor.resolveSize(7)).isEqualTo(7);
+        assertThat(PageCursor.resolveSize(10_000)).isEqualTo(PageCursor.MAX_SIZE);
+    }
+}
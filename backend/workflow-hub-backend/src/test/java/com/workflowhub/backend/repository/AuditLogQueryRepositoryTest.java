@@ -0,0 +1,110 @@
+package com.workflowhub.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.AuditLog;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(AuditLogQueryRepository.class)
+class AuditLogQueryRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Autowired
+    private AuditLogQueryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        // 300 rows, one per minute; every third is a Workflow APPROVE by admin@
+        // and pairs of rows share a timestamp to exercise the id tie-break
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            boolean approve = i % 3 == 0;
+            rows.add(new Object[] {
+                    (long) i,
+                    approve ? "APPROVE" : "LOGIN",
+                    approve ? "admin@example.com" : "user" + (i % 7) + "@example.com",
+                    approve ? "ADMIN" : "EMPLOYEE",
+                    approve ? "Workflow" : "User",
+                    (long) (i % 10),
+                    Timestamp.valueOf(START.plusMinutes(i / 2))
+            });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO audit_logs (id, action, performed_by, role, entity_type, entity_id, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @Test
+    void keysetPagesCoverEveryRowOnceNewestFirst() {
+        AuditLogFilter all = new AuditLogFilter();
+
+        List<Long> seen = new ArrayList<>();
+        PageCursor after = null;
+        while (true) {
+            List<AuditLog> page = repository.findPage(all, after, 40);
+            page.forEach(l -> seen.add(l.getId()));
+            if (page.size() < 40) {
+                break;
+            }
+            AuditLog last = page.get(page.size() - 1);
+            after = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+
+        assertThat(seen).hasSize(300).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void filtersCombine() {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setFrom(START.plusMinutes(30));
+        filter.setTo(START.plusMinutes(60));
+        filter.setPerformedBy("admin@example.com");
+        filter.setEntityType("Workflow");
+        filter.setAction("APPROVE");
+        filter.setEntityId(0L);
+
+        List<AuditLog> rows = repository.findPage(filter, null, 100);
+
+        // ids 60..119 fall in the window; multiples of 30 are APPROVE with entity 0
+        assertThat(rows).extracting(AuditLog::getId).containsExactly(90L, 60L);
+    }
+
+    @Test
+    void streamDeliversTheSameRowsAsPaging() {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setAction("APPROVE");
+
+        List<Long> streamed = new ArrayList<>();
+        repository.stream(filter, l -> streamed.add(l.getId()));
+
+        List<Long> paged = repository.findPage(filter, null, 1000).stream()
+                .map(AuditLog::getId)
+                .toList();
+
+        assertThat(streamed).hasSize(100).isEqualTo(paged);
+    }
+}
@@ -0,0 +1,270 @@
+package com.workflowhub.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/**
+ * Runs every WorkflowRepository and NotificationRepository finder against a
+ * seeded embedded database and checks the EXPLAIN output, so a query change
+ * that stops using its index fails here instead of in production.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.workflowhub.backend.repository.QueryPlanTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+    private static final int USERS = 200;
+    private static final int WORKFLOWS = 20_000;
+    private static final int NOTIFICATIONS = 20_000;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    /* Aggregates that read the whole table on purpose (background reconciliation) */
+    private static final Set<String> FULL_SCAN_ALLOWED =
+            Set.of("countGroupedByStatus", "countGroupedByUserAndStatus");
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private WorkflowRepository workflowRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    /* =========================
+       CASES
+       ========================= */
+
+    /*
+     * seekColumn is the leading column of the index declared for the finder.
+     * H2 also keeps a separate index per foreign key and may seek on that
+     * one instead (MySQL reuses the composite), so the plan is checked for
+     * an index seek on the column rather than for a specific index name.
+     */
+    record PlanCase(Class<?> repository, String finder, String seekColumn,
+                    Consumer<QueryPlanTest> call) {
+
+        String qualifiedName() {
+            return repository.getSimpleName() + "." + finder;
+        }
+
+        @Override
+        public String toString() {
+            return qualifiedName();
+        }
+    }
+
+    static Stream<PlanCase> cases() {
+        WorkflowStatus pending = WorkflowStatus.PENDING;
+
+        return Stream.of(
+            new PlanCase(WorkflowRepository.class, "findByUserIdOrderByCreatedAtDesc", "user_id",
+                    t -> t.workflowRepository.findByUserIdOrderByCreatedAtDesc(7L)),
+            new PlanCase(WorkflowRepository.class, "findPageByUser", "user_id",
+                    t -> t.workflowRepository.findPageByUser(7L, Limit.of(21))),
+            new PlanCase(WorkflowRepository.class, "findPageByUserAfter", "user_id",
+                    t -> t.workflowRepository.findPageByUserAfter(7L, NOW, 10_000L, Limit.of(21))),
+            new PlanCase(WorkflowRepository.class, "countByUserId", "user_id",
+                    t -> t.workflowRepository.countByUserId(7L)),
+            new PlanCase(WorkflowRepository.class, "countByUserIdAndStatus", "user_id",
+                    t -> t.workflowRepository.countByUserIdAndStatus(7L, pending)),
+            new PlanCase(WorkflowRepository.class, "findByStatusOrderByCreatedAtDesc", "status",
+                    t -> t.workflowRepository.findByStatusOrderByCreatedAtDesc(pending)),
+            new PlanCase(WorkflowRepository.class, "findPageByStatus", "status",
+                    t -> t.workflowRepository.findPageByStatus(pending, Limit.of(21))),
+            new PlanCase(WorkflowRepository.class, "findPageByStatusAfter", "status",
+                    t -> t.workflowRepository.findPageByStatusAfter(pending, NOW, 10_000L, Limit.of(21))),
+            new PlanCase(WorkflowRepository.class, "countByStatus", "status",
+                    t -> t.workflowRepository.countByStatus(pending)),
+            new PlanCase(WorkflowRepository.class, "findByApprovedByIdOrderByApprovedAtDesc", "approved_by",
+                    t -> t.workflowRepository.findByApprovedByIdOrderByApprovedAtDesc(1L)),
+            new PlanCase(WorkflowRepository.class, "findSummariesByIdIn", "id",
+                    t -> t.workflowRepository.findSummariesByIdIn(List.of(10L, 500L, 19_999L))),
+
+            new PlanCase(NotificationRepository.class, "findPageByUser", "user_id",
+                    t -> t.notificationRepository.findPageByUser(7L, Limit.of(21))),
+            new PlanCase(NotificationRepository.class, "findPageByUserAfter", "user_id",
+                    t -> t.notificationRepository.findPageByUserAfter(7L, NOW, 100L, Limit.of(21))),
+            new PlanCase(NotificationRepository.class, "findTopByUserIdOrderByIdDesc", "user_id",
+                    t -> t.notificationRepository.findTopByUserIdOrderByIdDesc(7L)),
+            new PlanCase(NotificationRepository.class, "findTop100ByUserIdAndIdGreaterThanOrderByIdAsc", "user_id",
+                    t -> t.notificationRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(7L, 100L))
+        );
+    }
+
+    /* =========================
+       TESTS
+       ========================= */
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("cases")
+    void finderUsesIndex(PlanCase planCase) {
+        SqlCapture.STATEMENTS.clear();
+
+        planCase.call().accept(this);
+
+        String sql = SqlCapture.STATEMENTS.stream()
+                // The finder's own query; later selects are EAGER association loads
+                .filter(s -> s.trim().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No SQL captured for " + planCase.finder()));
+
+        String table = planCase.repository() == WorkflowRepository.class ? "workflows" : "notification";
+        String plan = explain(sql);
+
+        assertThat(accessPath(plan, table))
+                .as("plan for %s:%n%s", planCase.finder(), plan)
+                .doesNotContainIgnoringCase("tableScan")
+                // An equality seek, or a multi-point seek for IN lists
+                .containsPattern("\\b" + planCase.seekColumn() + " (= \\?|IN\\()");
+    }
+
+    @Test
+    void everyFinderHasAPlanCase() {
+        Set<String> covered = cases().map(PlanCase::qualifiedName).collect(Collectors.toSet());
+
+        List<String> missing = new ArrayList<>();
+        for (Class<?> repo : List.of(WorkflowRepository.class, NotificationRepository.class)) {
+            for (Method m : repo.getDeclaredMethods()) {
+                String name = repo.getSimpleName() + "." + m.getName();
+                if (!covered.contains(name) && !FULL_SCAN_ALLOWED.contains(m.getName())) {
+                    missing.add(name);
+                }
+            }
+        }
+
+        assertThat(missing)
+                .as("new finders need a case in QueryPlanTest.cases()")
+                .isEmpty();
+    }
+
+    /* =========================
+       HELPERS
+       ========================= */
+
+    private String explain(String sql) {
+        // H2 plans parameterised statements without binding values
+        return jdbc.execute((java.sql.Connection c) -> {
+            try (var ps = c.prepareStatement("EXPLAIN " + sql);
+                 var rs = ps.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /* H2 prints how a table is read as a comment under its FROM or JOIN line */
+    private static String accessPath(String plan, String table) {
+        String[] lines = plan.split("\n");
+        for (int i = 0; i < lines.length - 1; i++) {
+            if (lines[i].contains("\"public\".\"" + table + "\"")) {
+                return lines[i + 1].trim();
+            }
+        }
+        throw new AssertionError("No access path for " + table + " in:\n" + plan);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[] {
+                    (long) i, "User " + i, "user" + i + "@example.com", "x",
+                    i <= 5 ? "ADMIN" : "EMPLOYEE", Timestamp.valueOf(NOW.minusYears(1))
+            });
+        }
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                users);
+
+        WorkflowStatus[] statuses = {
+                WorkflowStatus.APPROVED, WorkflowStatus.REJECTED, WorkflowStatus.APPROVED,
+                WorkflowStatus.REJECTED, WorkflowStatus.APPROVED, WorkflowStatus.REJECTED,
+                WorkflowStatus.APPROVED, WorkflowStatus.REJECTED, WorkflowStatus.APPROVED,
+                WorkflowStatus.PENDING
+        };
+
+        List<Object[]> workflows = new ArrayList<>(WORKFLOWS);
+        for (int i = 1; i <= WORKFLOWS; i++) {
+            WorkflowStatus status = statuses[i % statuses.length];
+            boolean decided = status != WorkflowStatus.PENDING;
+            workflows.add(new Object[] {
+                    (long) i, "Request " + i, "Description " + i,
+                    (long) (i % (USERS - 5)) + 6, status.name(),
+                    decided ? (long) (i % 5) + 1 : null,
+                    Timestamp.valueOf(NOW.minusMinutes(WORKFLOWS - i)),
+                    decided ? Timestamp.valueOf(NOW.minusMinutes(WORKFLOWS - i - 1)) : null
+            });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO workflows (id, title, description, user_id, status, approved_by, created_at, approved_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, workflows);
+
+        List<Object[]> notifications = new ArrayList<>(NOTIFICATIONS);
+        for (int i = 1; i <= NOTIFICATIONS; i++) {
+            notifications.add(new Object[] {
+                    (long) i, "Message " + i, i % 3 == 0, (long) (i % USERS) + 1,
+                    Timestamp.valueOf(NOW.minusMinutes(NOTIFICATIONS - i))
+            });
+        }
+        jdbc.batchUpdate(
+                "INSERT INTO notification (id, message, read_status, user_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                notifications);
+
+        // Let the optimizer see realistic selectivity
+        jdbc.execute("ANALYZE");
+        seeded = true;
+    }
+
+    /* Hibernate hook that records every SQL string it is about to prepare */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
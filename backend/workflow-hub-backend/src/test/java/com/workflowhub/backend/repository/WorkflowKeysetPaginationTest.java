@@ -0,0 +1,125 @@
+package com.workflowhub.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.dto.WorkflowSummary;
+import com.workflowhub.backend.entity.WorkflowStatus;
+
+/**
+ * Walking the keyset finders page by page, through encoded cursors, must
+ * visit every row exactly once in (createdAt, id) DESC order, including
+ * rows that share a createdAt across a page boundary.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class WorkflowKeysetPaginationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final long OWNER = 1L;
+
+    @Autowired
+    private WorkflowRepository workflowRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                List.of(
+                        new Object[] { OWNER, "Owner", "owner@example.com", "x", "EMPLOYEE", Timestamp.valueOf(START) },
+                        new Object[] { 2L, "Other", "other@example.com", "x", "EMPLOYEE", Timestamp.valueOf(START) }));
+
+        // 90 rows, three per timestamp; OWNER has two of every three,
+        // every other row is PENDING
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 90; i++) {
+            rows.add(new Object[] {
+                    (long) i, "Request " + i,
+                    i % 3 == 0 ? 2L : OWNER,
+                    i % 2 == 0 ? "PENDING" : "REJECTED",
+                    Timestamp.valueOf(START.plusMinutes(i / 3))
+            });
+        }
+        jdbc.batchUpdate(
+                "INSERT INTO workflows (id, title, user_id, status, created_at) VALUES (?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 7, 100 })
+    void userPagesCoverEveryRowOnce(int size) {
+        List<WorkflowSummary> walked = walk(size,
+                limit -> workflowRepository.findPageByUser(OWNER, limit),
+                (after, limit) -> workflowRepository.findPageByUserAfter(
+                        OWNER, after.getCreatedAt(), after.getId(), limit));
+
+        assertThat(walked).hasSize(60)
+                .allSatisfy(w -> assertThat(w.getUser().getId()).isEqualTo(OWNER));
+        assertNewestFirstWithoutRepeats(walked);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 7, 100 })
+    void statusPagesCoverEveryRowOnce(int size) {
+        List<WorkflowSummary> walked = walk(size,
+                limit -> workflowRepository.findPageByStatus(WorkflowStatus.PENDING, limit),
+                (after, limit) -> workflowRepository.findPageByStatusAfter(
+                        WorkflowStatus.PENDING, after.getCreatedAt(), after.getId(), limit));
+
+        assertThat(walked).hasSize(45)
+                .allSatisfy(w -> assertThat(w.getStatus()).isEqualTo(WorkflowStatus.PENDING));
+        assertNewestFirstWithoutRepeats(walked);
+    }
+
+    /* Follows cursors the way the service does: fetch size + 1, resume after the last row kept */
+    private List<WorkflowSummary> walk(
+            int size,
+            Function<Limit, List<WorkflowSummary>> first,
+            BiFunction<PageCursor, Limit, List<WorkflowSummary>> next
+    ) {
+        List<WorkflowSummary> walked = new ArrayList<>();
+        List<WorkflowSummary> rows = first.apply(Limit.of(size + 1));
+
+        while (true) {
+            List<WorkflowSummary> page = rows.subList(0, Math.min(size, rows.size()));
+            walked.addAll(page);
+            if (rows.size() <= size) {
+                return walked;
+            }
+
+            WorkflowSummary last = page.get(size - 1);
+            String token = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+            rows = next.apply(PageCursor.decode(token), Limit.of(size + 1));
+        }
+    }
+
+    private static void assertNewestFirstWithoutRepeats(List<WorkflowSummary> walked) {
+        assertThat(walked).extracting(WorkflowSummary::getId).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(
+                Comparator.comparing(WorkflowSummary::getCreatedAt)
+                        .thenComparing(WorkflowSummary::getId)
+                        .reversed());
+    }
+}
@@ -0,0 +1,80 @@
+package com.workflowhub.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.workflowhub.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginThrottleTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // 3 per IP up front, then one every 20 s; 2 failures per IP and email, then one a minute
+    private final LoginThrottle throttle = new LoginThrottle(registry, 3, 3, 2, 1, 1000, now::get);
+
+    @Test
+    void ipBucketAllowsABurstThenRefills() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkIp("10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.checkIp("10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getRetryAfterSeconds())
+                .isEqualTo(20L);
+        assertThatCode(() -> throttle.checkIp("10.0.0.2")).doesNotThrowAnyException();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThatCode(() -> throttle.checkIp("10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> throttle.checkIp("10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+
+        assertThat(registry.counter("auth.rejected", "reason", "ip").count()).isEqualTo(2);
+    }
+
+    @Test
+    void emailBucketCountsFailuresIgnoringCaseAndSpacing() {
+        throttle.failedLogin("10.0.0.1", "Alice@Example.com");
+        throttle.failedLogin("10.0.0.1", " alice@example.com ");
+
+        assertThatThrownBy(() -> throttle.checkEmail("10.0.0.1", "ALICE@EXAMPLE.COM"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(registry.counter("auth.rejected", "reason", "email").count()).isEqualTo(1);
+
+        // Refill is one a minute
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        throttle.checkEmail("10.0.0.1", "alice@example.com");
+        throttle.failedLogin("10.0.0.1", "alice@example.com");
+        assertThatThrownBy(() -> throttle.checkEmail("10.0.0.1", "alice@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void successfulLoginsAreNotCharged() {
+        for (int i = 0; i < 10; i++) {
+            throttle.checkEmail("10.0.0.1", "alice@example.com");
+        }
+
+        assertThat(registry.counter("auth.rejected", "reason", "email").count()).isZero();
+    }
+
+    @Test
+    void failuresFromAnotherAddressCannotLockTheOwnerOut() {
+        for (int i = 0; i < 5; i++) {
+            throttle.failedLogin("203.0.113.9", "alice@example.com");
+        }
+
+        assertThatThrownBy(() -> throttle.checkEmail("203.0.113.9", "alice@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.checkEmail("10.0.0.1", "alice@example.com"))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,68 @@
+package com.workflowhub.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.workflowhub.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder encoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // One worker, one queued request
+    private final PasswordHasher hasher = new PasswordHasher(encoder, registry, 1, 1);
+
+    @AfterEach
+    void stop() {
+        hasher.stop();
+    }
+
+    @Test
+    void refusesOnceTheQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(encoder.matches(any(), any())).thenAnswer(inv -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> hasher.matches("a", "h"));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> hasher.matches("b", "h"));
+        while (hasher.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> hasher.matches("c", "h"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(registry.counter("auth.rejected", "reason", "hasher_busy").count()).isEqualTo(1);
+        assertThat(registry.timer("auth.hash.latency", "op", "match").count()).isEqualTo(2);
+    }
+
+    @Test
+    void encodesOnThePool() {
+        when(encoder.encode("secret")).thenAnswer(inv -> Thread.currentThread().getName());
+
+        assertThat(hasher.encode("secret")).startsWith("password-hash-");
+    }
+}
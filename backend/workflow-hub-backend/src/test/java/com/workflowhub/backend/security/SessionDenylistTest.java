@@ -0,0 +1,33 @@
+package com.workflowhub.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.workflowhub.backend.security.SessionDenylist.BloomFilter;
+
+class SessionDenylistTest {
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndRoughlyItsFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("revoked-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("revoked-" + i)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        // 1% expected; allow generous slack for randomness
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,184 @@
+package com.workflowhub.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.User;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = {
+        "jwt.expiration=600000",
+        "jwt.keys.rotation-days=30",
+        "jwt.keys.publish-ahead-minutes=60"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SigningKeyStore.class, JwtUtil.class, VerifiedTokenCache.class, SigningKeyStoreTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SigningKeyStoreTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private SigningKeyStore keyStore;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void firstKeyActivatedYesterday() {
+        activate("es256-0001", LocalDateTime.now().minusDays(1));
+    }
+
+    @AfterEach
+    void keepOnlyTheFirstKey() {
+        jdbc.update("DELETE FROM jwt_signing_keys WHERE kid <> 'es256-0001'");
+        keyStore.reload();
+    }
+
+    @Test
+    void signsWithAKeyIdAndPublishesItAsAJwk() {
+        String token = jwtUtil.generateToken(user(), "s1");
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+
+        assertThat(header).contains("\"alg\":\"ES256\"").contains("\"kid\":\"es256-0001\"");
+        assertThat(jwtUtil.extractAllClaims(token).getSubject()).isEqualTo("kim@example.com");
+
+        Map<String, Object> jwk = keys().get(0);
+        assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256").containsEntry("kid", "es256-0001");
+        assertThat(Base64.getUrlDecoder().decode((String) jwk.get("x"))).hasSize(32);
+        assertThat(Base64.getUrlDecoder().decode((String) jwk.get("y"))).hasSize(32);
+    }
+
+    @Test
+    void rotationPublishesAheadThenOverlapsUntilOldTokensExpire() {
+        String oldToken = jwtUtil.generateToken(user(), "s1");
+
+        keyStore.rotateIfDue(LocalDateTime.now().plusDays(2));
+        assertThat(keys()).hasSize(1);
+
+        // Due: the next key is published but does not sign yet
+        keyStore.rotateIfDue(LocalDateTime.now().plusDays(29));
+        assertThat(keys()).extracting(k -> k.get("kid")).containsExactly("es256-0001", "es256-0002");
+        assertThat(keyStore.signingKey().kid()).isEqualTo("es256-0001");
+
+        // Activated: new tokens use it, tokens from the old key still verify
+        activate("es256-0002", LocalDateTime.now().minusMinutes(1));
+        assertThat(keyStore.signingKey().kid()).isEqualTo("es256-0002");
+        assertThat(jwtUtil.extractAllClaims(jwtUtil.generateToken(user(), "s2")).getSubject())
+                .isEqualTo("kim@example.com");
+        assertThat(keyStore.verificationKey("es256-0001")).isNotNull();
+
+        // A token lifetime after the switch the old key is gone
+        activate("es256-0002", LocalDateTime.now().minusMinutes(11));
+        assertThat(keys()).extracting(k -> k.get("kid")).containsExactly("es256-0002");
+        assertThatThrownBy(() -> keyStore.verificationKey("es256-0001")).isInstanceOf(JwtException.class);
+        // Never parsed before, so not in the verified-token cache either
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsSharedSecretTokensAndUnknownKeys() {
+        String hs256 = Jwts.builder()
+                .setSubject("kim@example.com")
+                .setHeaderParam("kid", "es256-0001")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(new byte[32]), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(hs256)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> keyStore.verificationKey("es256-9999")).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void privateHalvesAreStoredSealed() {
+        String stored = jdbc.queryForObject(
+                "SELECT private_key FROM jwt_signing_keys WHERE kid = 'es256-0001'", String.class);
+
+        assertThat(stored).startsWith("v1:");
+        assertThat(stored).isNotEqualTo(Base64.getEncoder().encodeToString(
+                keyStore.signingKey().privateKey().getEncoded()));
+    }
+
+    @Test
+    void plainRowsFromBeforeSealingAreSealedOnLoad() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        String plain = Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded());
+
+        jdbc.update("""
+                INSERT INTO jwt_signing_keys (kid, algorithm, public_key, private_key, activates_at, created_at)
+                VALUES ('es256-0002', 'ES256', ?, ?, ?, ?)
+                """, Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()), plain,
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), Timestamp.valueOf(LocalDateTime.now()));
+        keyStore.reload();
+
+        assertThat(keyStore.signingKey().privateKey().getEncoded()).isEqualTo(pair.getPrivate().getEncoded());
+        assertThat(jdbc.queryForObject(
+                "SELECT private_key FROM jwt_signing_keys WHERE kid = 'es256-0002'", String.class))
+                .startsWith("v1:");
+
+        // Sealed row reads back to the same key
+        keyStore.reload();
+        assertThat(keyStore.signingKey().privateKey().getEncoded()).isEqualTo(pair.getPrivate().getEncoded());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> keys() {
+        return (List<Map<String, Object>>) keyStore.jwks().get("keys");
+    }
+
+    private void activate(String kid, LocalDateTime at) {
+        jdbc.update("UPDATE jwt_signing_keys SET activates_at = ? WHERE kid = ?", Timestamp.valueOf(at), kid);
+        keyStore.reload();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("kim@example.com");
+        user.setName("Kim");
+        user.setRole(User.Role.EMPLOYEE);
+        return user;
+    }
+}
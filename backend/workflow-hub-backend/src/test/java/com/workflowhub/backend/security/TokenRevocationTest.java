@@ -0,0 +1,171 @@
+package com.workflowhub.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.repository.UserRepository;
+import com.workflowhub.backend.service.RefreshTokenService;
+import com.workflowhub.backend.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = "jwt.expiration=600000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JwtFilter.class, JwtUtil.class, VerifiedTokenCache.class, SigningKeyStore.class,
+        TokenVersionCache.class, SessionDenylist.class, RefreshTokenService.class, UserService.class,
+        TokenRevocationTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenRevocationTest {
+
+    private static final long USER_ID = 900_101;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private JwtFilter filter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenVersionCache tokenVersions;
+
+    @Autowired
+    private SessionDenylist sessionDenylist;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("""
+                INSERT INTO users (id, name, email, password, role, created_at)
+                VALUES (?, 'Dana', 'dana@example.com', 'x', 'EMPLOYEE', ?)
+                """, USER_ID, Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jdbc.update("DELETE FROM users WHERE id = ?", USER_ID);
+        jdbc.update("DELETE FROM revoked_sessions WHERE session_id = 'remote-session'");
+        // The next test reseeds the same id at version 0
+        tokenVersions.invalidate(USER_ID);
+    }
+
+    @Test
+    void principalComesFromTheClaimsAlone() throws Exception {
+        String token = issue();
+
+        // A lookup would see the new name
+        jdbc.update("UPDATE users SET name = 'Renamed' WHERE id = ?", USER_ID);
+
+        CustomUserDetails principal = (CustomUserDetails) authenticate(token).getPrincipal();
+        assertThat(principal.getId()).isEqualTo(USER_ID);
+        assertThat(principal.getName()).isEqualTo("Dana");
+        assertThat(principal.getRole()).isEqualTo(User.Role.EMPLOYEE);
+        assertThat(principal.getUser().getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4));
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("EMPLOYEE");
+    }
+
+    @Test
+    void logoutRevokesEveryIssuedToken() throws Exception {
+        String token = issue();
+        assertThat(authenticate(token)).isNotNull();
+
+        userService.revokeTokens(USER_ID);
+
+        assertThat(authenticate(token)).isNull();
+        assertThat(authenticate(issue()))
+                .isNotNull();
+    }
+
+    @Test
+    void roleChangeRevokesAndTheNextTokenCarriesTheNewRole() throws Exception {
+        String token = issue();
+
+        userService.changeRole(USER_ID, User.Role.ADMIN);
+
+        assertThat(authenticate(token)).isNull();
+        Authentication admin = authenticate(issue());
+        assertThat(admin.getAuthorities()).extracting(Object::toString).containsExactly("ADMIN");
+    }
+
+    @Test
+    void sessionRevokedOnAnotherInstanceIsRefusedAfterPurge() throws Exception {
+        String token = issue("remote-session");
+
+        // Written by another instance; nothing told this one
+        jdbc.update("INSERT INTO revoked_sessions (session_id, expires_at, revoked_at) VALUES (?, ?, ?)",
+                "remote-session",
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(10)),
+                Timestamp.valueOf(LocalDateTime.now()));
+        assertThat(authenticate(token)).isNotNull();
+
+        sessionDenylist.purge();
+
+        assertThat(authenticate(token)).isNull();
+        assertThat(authenticate(issue())).isNotNull();
+    }
+
+    /* A token for the user as currently stored */
+    private String issue() {
+        return issue("session-1");
+    }
+
+    private String issue(String sessionId) {
+        return jwtUtil.generateToken(userRepository.findById(USER_ID).orElseThrow(), sessionId);
+    }
+
+    /* Null when the filter refused the token */
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workflows/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        if (response.getStatus() == 401) {
+            return null;
+        }
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,283 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.dto.BulkDecisionResult;
+import com.workflowhub.backend.dto.BulkDecisionResult.Outcome;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.exception.ConflictException;
+import com.workflowhub.backend.exception.InvalidRequestException;
+import com.workflowhub.backend.repository.OutboxRepository;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+import com.workflowhub.backend.security.CustomUserDetails;
+
+/**
+ * Bulk decisions over a mix of pending, already decided, missing and
+ * repeated ids, large enough to span more than one IN chunk.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({AdminWorkflowService.class, WorkflowService.class, WorkflowBulkRepository.class,
+        WorkflowTransitionLog.class, WorkflowTransitionRepository.class,
+        OutboxService.class, OutboxRepository.class, AdminBulkDecisionTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminBulkDecisionTest {
+
+    // Clear of the ids other tests seed into the shared embedded database
+    private static final long FIRST_ID = 800_001;
+    private static final long REQUESTER = 800_001;
+    private static final long ADMIN = 800_002;
+
+    // More than one IN chunk (500) of pending rows, plus some already decided
+    private static final int PENDING = 600;
+    private static final int DECIDED = 10;
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private AdminWorkflowService adminWorkflowService;
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private WorkflowCounterService counterService;
+
+    @MockitoBean
+    private WorkflowSearchIndex searchIndex;
+
+    @MockitoBean
+    private WorkflowTimelineCache timelineCache;
+
+    private Authentication admin;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, 'x', ?, ?)",
+                List.of(
+                        new Object[] { REQUESTER, "Requester", "requester@example.com", "EMPLOYEE",
+                                Timestamp.valueOf(now) },
+                        new Object[] { ADMIN, "Admin", "admin@example.com", "ADMIN",
+                                Timestamp.valueOf(now) }));
+
+        List<Object[]> workflows = new ArrayList<>();
+        for (int i = 0; i < PENDING + DECIDED; i++) {
+            workflows.add(new Object[] { FIRST_ID + i, "Request " + i, REQUESTER,
+                    i < PENDING ? "PENDING" : "REJECTED", Timestamp.valueOf(now) });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO workflows (id, title, user_id, status, created_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, workflows);
+
+        User user = new User();
+        user.setId(ADMIN);
+        user.setEmail("admin@example.com");
+        user.setName("Admin");
+        user.setRole(User.Role.ADMIN);
+        CustomUserDetails details = new CustomUserDetails(user);
+        admin = new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM outbox_events WHERE aggregate_id >= ? OR aggregate_id IS NULL", FIRST_ID);
+        jdbc.update("DELETE FROM workflow_transitions WHERE workflow_id >= ?", FIRST_ID);
+        jdbc.update("DELETE FROM workflows WHERE id >= ?", FIRST_ID);
+        jdbc.update("DELETE FROM users WHERE id >= ?", REQUESTER);
+    }
+
+    @Test
+    void reportsEveryIdOnceInRequestOrder() {
+        long decided = FIRST_ID + PENDING;
+        long missing = FIRST_ID + 50_000;
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(missing);
+        ids.add(decided);
+        LongStream.range(FIRST_ID, FIRST_ID + PENDING).forEach(ids::add);
+        // Repeats, including of a missing and a decided id, and a null
+        ids.add(FIRST_ID);
+        ids.add(missing);
+        ids.add(decided);
+        ids.add(null);
+
+        List<BulkDecisionResult> results = new TransactionTemplate(transactionManager).execute(
+                tx -> adminWorkflowService.bulkDecide(ids, WorkflowStatus.APPROVED, admin));
+
+        assertThat(results).hasSize(PENDING + 2);
+        assertThat(results).extracting(BulkDecisionResult::getId).doesNotHaveDuplicates();
+        assertThat(results.get(0).getId()).isEqualTo(missing);
+        assertThat(results.get(0).getOutcome()).isEqualTo(Outcome.NOT_FOUND);
+        assertThat(results.get(1).getId()).isEqualTo(decided);
+        assertThat(results.get(1).getOutcome()).isEqualTo(Outcome.NOT_PENDING);
+        assertThat(results.subList(2, results.size()))
+                .allSatisfy(r -> assertThat(r.getOutcome()).isEqualTo(Outcome.APPROVED));
+
+        // Both chunks were updated, the decided row was left alone
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM workflows WHERE id >= ? AND status = 'APPROVED' AND approved_by = ? AND version = 1",
+                Long.class, FIRST_ID, ADMIN)).isEqualTo(PENDING);
+        assertThat(jdbc.queryForObject("SELECT status FROM workflows WHERE id = ?", String.class, decided))
+                .isEqualTo("REJECTED");
+
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM workflow_transitions WHERE workflow_id >= ?", Long.class, FIRST_ID))
+                .isEqualTo(PENDING);
+
+        // One notification event for the whole decision, one mail per decided row
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ? AND aggregate_id IS NULL",
+                Long.class, NotificationOutboxHandler.TYPE)).isEqualTo(1);
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ? AND aggregate_id >= ?",
+                Long.class, ApprovalMailOutboxHandler.TYPE, FIRST_ID)).isEqualTo(PENDING);
+
+        verify(counterService, times(PENDING))
+                .recordTransition(REQUESTER, WorkflowStatus.PENDING, WorkflowStatus.APPROVED);
+        verify(searchIndex, times(PENDING)).updateStatus(anyLong(), eq(WorkflowStatus.APPROVED));
+    }
+
+    @Test
+    void secondBulkDecisionFindsNothingPending() {
+        List<Long> ids = List.of(FIRST_ID, FIRST_ID + 1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.execute(s -> adminWorkflowService.bulkDecide(ids, WorkflowStatus.REJECTED, admin));
+        List<BulkDecisionResult> again =
+                tx.execute(s -> adminWorkflowService.bulkDecide(ids, WorkflowStatus.APPROVED, admin));
+
+        assertThat(again).extracting(BulkDecisionResult::getOutcome)
+                .containsExactly(Outcome.NOT_PENDING, Outcome.NOT_PENDING);
+        assertThat(jdbc.queryForList(
+                "SELECT status FROM workflows WHERE id IN (?, ?)", String.class, FIRST_ID, FIRST_ID + 1))
+                .containsOnly("REJECTED");
+        verify(counterService, never())
+                .recordTransition(anyLong(), any(), eq(WorkflowStatus.APPROVED));
+    }
+
+    @Test
+    void lockedRowsMakeASingleDecisionWaitAndThenConflict() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<BulkDecisionResult>> bulk = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(tx -> {
+                    List<BulkDecisionResult> r =
+                            adminWorkflowService.bulkDecide(List.of(FIRST_ID), WorkflowStatus.APPROVED, admin);
+                    locked.countDown();
+                    await(release);
+                    return r;
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        User other = new User();
+        other.setId(ADMIN);
+        other.setEmail("admin@example.com");
+        CompletableFuture<?> single = CompletableFuture.runAsync(
+                () -> workflowService.reject(FIRST_ID, other, null));
+
+        // Blocked on the bulk decision's row lock until it commits
+        Thread.sleep(300);
+        assertThat(single).isNotDone();
+
+        release.countDown();
+        assertThat(bulk.get(5, TimeUnit.SECONDS)).extracting(BulkDecisionResult::getOutcome)
+                .containsExactly(Outcome.APPROVED);
+        assertThatThrownBy(() -> single.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void capsDistinctIdsNotRequestLength() {
+        List<Long> tooMany = LongStream.range(0, AdminWorkflowService.MAX_BULK_IDS + 1)
+                .map(i -> FIRST_ID + 100_000 + i).boxed().toList();
+
+        assertThatThrownBy(() -> adminWorkflowService.bulkDecide(tooMany, WorkflowStatus.APPROVED, admin))
+                .isInstanceOf(InvalidRequestException.class);
+
+        // Exactly the cap once duplicates are dropped
+        List<Long> withRepeats = new ArrayList<>(tooMany.subList(0, AdminWorkflowService.MAX_BULK_IDS));
+        withRepeats.addAll(tooMany.subList(0, 200));
+
+        List<BulkDecisionResult> results = new TransactionTemplate(transactionManager).execute(
+                tx -> adminWorkflowService.bulkDecide(withRepeats, WorkflowStatus.APPROVED, admin));
+        assertThat(results).hasSize(AdminWorkflowService.MAX_BULK_IDS)
+                .allSatisfy(r -> assertThat(r.getOutcome()).isEqualTo(Outcome.NOT_FOUND));
+    }
+
+    @Test
+    void rejectsEmptyRequestsAndNonDecisions() {
+        assertThatThrownBy(() -> adminWorkflowService.bulkDecide(List.of(), WorkflowStatus.APPROVED, admin))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> adminWorkflowService.bulkDecide(null, WorkflowStatus.APPROVED, admin))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> adminWorkflowService.bulkDecide(
+                List.of(FIRST_ID), WorkflowStatus.PENDING, admin))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
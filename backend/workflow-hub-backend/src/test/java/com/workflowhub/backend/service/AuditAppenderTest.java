@@ -0,0 +1,214 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.repository.AuditLogBatchRepository;
+import com.workflowhub.backend.service.AuditAppender.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditAppenderTest {
+
+    @TempDir
+    Path dir;
+
+    private final AuditLogBatchRepository repository = mock(AuditLogBatchRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // Copies, because the appender reuses its batch list
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<AuditLog> written = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean holdFirstBatch;
+
+    private AuditAppender appender;
+
+    @BeforeEach
+    void recordInserts() {
+        doAnswer(inv -> {
+            List<AuditLog> batch = inv.getArgument(0);
+            if (holdFirstBatch) {
+                holdFirstBatch = false;
+                release.await(5, TimeUnit.SECONDS);
+            }
+            batchSizes.add(batch.size());
+            written.addAll(batch);
+            return null;
+        }).when(repository).insertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    void flushesFullBatchesAndTheRestOnShutdown() throws Exception {
+        appender = appender(100, 10, 60_000, OverflowPolicy.BLOCK);
+        appender.start();
+
+        for (int i = 0; i < 25; i++) {
+            appender.append(entry(i));
+        }
+
+        await(() -> batchSizes.size() >= 2);
+        appender.stop();
+
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        assertThat(registry.counter("audit.written").count()).isEqualTo(25);
+    }
+
+    @Test
+    void flushesPartialBatchAfterFlushInterval() {
+        appender = appender(100, 500, 50, OverflowPolicy.BLOCK);
+        appender.start();
+
+        appender.append(entry(1));
+        appender.append(entry(2));
+
+        await(() -> written.size() == 2);
+        assertThat(appender.bufferDepth()).isZero();
+    }
+
+    @Test
+    void dropPolicyCountsWhatDidNotFit() {
+        appender = appender(2, 1, 60_000, OverflowPolicy.DROP);
+        holdFirstBatch = true;
+        appender.start();
+
+        appender.append(entry(0));
+        await(() -> appender.bufferDepth() == 0);
+
+        // Writer is stuck on entry 0, so two fit and three are dropped
+        for (int i = 1; i <= 5; i++) {
+            appender.append(entry(i));
+        }
+
+        assertThat(registry.counter("audit.dropped").count()).isEqualTo(3);
+        release.countDown();
+        await(() -> written.size() == 3);
+    }
+
+    @Test
+    void spillPolicyWritesOverflowToDiskAndReplaysIt() throws Exception {
+        Path spill = dir.resolve("audit.spill");
+        appender = appender(2, 1, 20, OverflowPolicy.SPILL);
+        holdFirstBatch = true;
+        appender.start();
+
+        appender.append(entry(0));
+        await(() -> appender.bufferDepth() == 0);
+
+        for (int i = 1; i <= 5; i++) {
+            appender.append(entry(i));
+        }
+
+        assertThat(Files.readAllLines(spill)).hasSize(3);
+        assertThat(registry.counter("audit.spilled").count()).isEqualTo(3);
+
+        release.countDown();
+        await(() -> written.size() == 6);
+
+        assertThat(written).extracting(AuditLog::getEntityId)
+                .containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(spill).doesNotExist();
+    }
+
+    @Test
+    void interruptedReplayResumesAfterTheLastInsertedBatch() throws Exception {
+        Path spill = dir.resolve("audit.spill");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lines.add(AuditLogCodec.encode(entry(i)));
+        }
+        Files.write(spill, lines);
+
+        // The second batch fails once; the first is already committed by then
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(inv -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("database unavailable");
+            }
+            List<AuditLog> batch = inv.getArgument(0);
+            written.addAll(batch);
+            return null;
+        }).when(repository).insertAll(anyList());
+
+        appender = appender(100, 2, 60_000, OverflowPolicy.SPILL);
+
+        appender.replaySpill();
+        assertThat(written).extracting(AuditLog::getEntityId).containsExactly(0L, 1L);
+        assertThat(dir.resolve("audit.spill.replay")).exists();
+
+        appender.replaySpill();
+        assertThat(written).extracting(AuditLog::getEntityId).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(dir.resolve("audit.spill.replay")).doesNotExist();
+        assertThat(dir.resolve("audit.spill.replay.done")).doesNotExist();
+    }
+
+    @Test
+    void spillLinesRoundTrip() {
+        AuditLog entry = entry(7);
+        entry.setAction("LOGIN\tFAILED\nagain \\N");
+        entry.setRole(null);
+
+        AuditLog back = AuditLogCodec.decode(AuditLogCodec.encode(entry));
+
+        assertThat(back).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    private AuditAppender appender(int capacity, int batchSize, long flushMillis, OverflowPolicy policy) {
+        return new AuditAppender(repository, registry, capacity, batchSize, flushMillis,
+                policy, dir.resolve("audit.spill"));
+    }
+
+    private static AuditLog entry(long id) {
+        AuditLog entry = new AuditLog();
+        entry.setAction("APPROVE");
+        entry.setPerformedBy("admin@example.com");
+        entry.setRole("ADMIN");
+        entry.setEntityType("Workflow");
+        entry.setEntityId(id);
+        entry.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        return entry;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the appender");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
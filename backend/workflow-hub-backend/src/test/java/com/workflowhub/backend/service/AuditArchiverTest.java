@@ -0,0 +1,160 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.repository.AuditLogQueryRepository;
+import com.workflowhub.backend.repository.AuditPartitionRepository;
+import com.workflowhub.backend.service.AuditQueryService.ExportFormat;
+
+/**
+ * Archives on the embedded database, which has no partitions, so expired
+ * rows are removed with a range delete. Queries must see one continuous
+ * history across the live table and the segments.
+ */
+@DataJpaTest(properties = {
+        "audit.retention.live-months=3",
+        "audit.retention.archive-months=12",
+        "audit.archive.block-rows=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({
+        AuditArchiver.class, AuditSegmentStore.class, AuditQueryService.class,
+        AuditLogQueryRepository.class, AuditPartitionRepository.class,
+        JacksonAutoConfiguration.class
+})
+class AuditArchiverTest {
+
+    // Live window is April to June; January to March get archived
+    private static final YearMonth NOW = YearMonth.of(2025, 6);
+    private static final int PER_MONTH = 120;
+
+    @TempDir
+    static Path archiveDir;
+
+    @DynamicPropertySource
+    static void archiveDir(DynamicPropertyRegistry registry) {
+        registry.add("audit.archive.dir", archiveDir::toString);
+    }
+
+    @Autowired
+    private AuditArchiver archiver;
+
+    @Autowired
+    private AuditQueryService queryService;
+
+    @Autowired
+    private AuditSegmentStore segmentStore;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() throws Exception {
+        segmentStore.deleteBefore(NOW.plusMonths(1));
+
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        for (YearMonth m = YearMonth.of(2025, 1); !m.isAfter(NOW); m = m.plusMonths(1)) {
+            for (int i = 0; i < PER_MONTH; i++, id++) {
+                rows.add(new Object[] {
+                        id, i % 2 == 0 ? "APPROVE" : "LOGIN", "admin@example.com", "ADMIN",
+                        "Workflow", id % 25,
+                        Timestamp.valueOf(m.atDay(1).atStartOfDay().plusHours(i))
+                });
+            }
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO audit_logs (id, action, performed_by, role, entity_type, entity_id, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @Test
+    void movesExpiredMonthsIntoSegments() throws Exception {
+        assertThat(archiver.archive(NOW)).isEqualTo(3L * PER_MONTH);
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM audit_logs", Long.class))
+                .isEqualTo(3L * PER_MONTH);
+        assertThat(segmentStore.months())
+                .containsExactly(YearMonth.of(2025, 1), YearMonth.of(2025, 2), YearMonth.of(2025, 3));
+    }
+
+    @Test
+    void pagingContinuesFromTheTableIntoTheArchive() throws Exception {
+        archiver.archive(NOW);
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<AuditLog> page = queryService.search(new AuditLogFilter(), cursor, 70);
+            page.getItems().forEach(l -> ids.add(l.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(ids).hasSize(6 * PER_MONTH).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void historicalRangeIsServedFromSegments() throws Exception {
+        archiver.archive(NOW);
+
+        AuditLogFilter february = new AuditLogFilter();
+        february.setFrom(YearMonth.of(2025, 2).atDay(1).atStartOfDay());
+        february.setTo(YearMonth.of(2025, 3).atDay(1).atStartOfDay());
+        february.setEntityId(7L);
+        february.setAction("APPROVE");
+
+        List<AuditLog> items = queryService.search(february, null, 100).getItems();
+
+        assertThat(items).isNotEmpty().allSatisfy(l -> {
+            assertThat(l.getEntityId()).isEqualTo(7L);
+            assertThat(l.getAction()).isEqualTo("APPROVE");
+            assertThat(YearMonth.from(l.getCreatedAt())).isEqualTo(YearMonth.of(2025, 2));
+        });
+    }
+
+    @Test
+    void exportIncludesArchivedRows() throws Exception {
+        archiver.archive(NOW);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        queryService.export(new AuditLogFilter(), ExportFormat.NDJSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(6 * PER_MONTH);
+    }
+
+    @Test
+    void purgesSegmentsPastArchiveRetention() throws Exception {
+        archiver.archive(NOW);
+
+        archiver.purge(YearMonth.of(2026, 2));
+
+        assertThat(segmentStore.months()).containsExactly(YearMonth.of(2025, 2), YearMonth.of(2025, 3));
+    }
+}
@@ -0,0 +1,163 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.workflowhub.backend.dto.AuditLogFilter;
+import com.workflowhub.backend.dto.PageCursor;
+import com.workflowhub.backend.entity.AuditLog;
+import com.workflowhub.backend.service.AuditSegmentStore.SegmentWriter;
+
+class AuditSegmentStoreTest {
+
+    private static final YearMonth JAN = YearMonth.of(2025, 1);
+    private static final YearMonth FEB = YearMonth.of(2025, 2);
+
+    @TempDir
+    Path dir;
+
+    private AuditSegmentStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new AuditSegmentStore(dir, 10);
+
+        // One row per hour, newest first as the archiver writes them
+        write(FEB, 200, 101);
+        write(JAN, 100, 1);
+    }
+
+    @Test
+    void scansEveryMonthNewestFirst() throws IOException {
+        List<Long> ids = scan(new AuditLogFilter(), null, Integer.MAX_VALUE);
+
+        assertThat(ids).hasSize(200);
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(store.months()).containsExactly(JAN, FEB);
+    }
+
+    @Test
+    void filtersByTimeRangeAndEntity() throws IOException {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setFrom(at(40));
+        filter.setTo(at(120));
+        filter.setEntityId(3L);
+
+        assertThat(scan(filter, null, Integer.MAX_VALUE))
+                .containsExactly(113L, 103L, 93L, 83L, 73L, 63L, 53L, 43L);
+    }
+
+    @Test
+    void resumesAfterCursorAndStopsWhenSinkIsFull() throws IOException {
+        PageCursor after = new PageCursor(at(150), 150L);
+
+        assertThat(scan(new AuditLogFilter(), after, 5))
+                .containsExactly(149L, 148L, 147L, 146L, 145L);
+    }
+
+    @Test
+    void repeatedRunIsAppendedAndDeduplicated() throws IOException {
+        // Same rows again, as after a crash between archiving and dropping
+        write(JAN, 100, 91);
+
+        assertThat(scan(new AuditLogFilter(), null, Integer.MAX_VALUE))
+                .hasSize(200)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void mergesOverlappingRunsInOrder() throws IOException {
+        // Oldest first and overlapping January, so blocks interleave by time
+        try (SegmentWriter writer = store.append(JAN)) {
+            for (long id = 45; id <= 75; id++) {
+                writer.add(row(id));
+            }
+        }
+
+        assertThat(scan(new AuditLogFilter(), null, Integer.MAX_VALUE))
+                .hasSize(200)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void readsOnlyTheBlocksItEmits() throws IOException {
+        // Cut off the oldest January block; a short first page must not reach it
+        Path segment = dir.resolve("audit-2025-01.seg");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        AuditLogFilter january = new AuditLogFilter();
+        january.setTo(at(101));
+
+        assertThat(scan(january, null, 15)).hasSize(15).startsWith(100L, 99L);
+    }
+
+    @Test
+    void compressesBlocks() throws IOException {
+        long raw = 0;
+        for (long id = 1; id <= 100; id++) {
+            raw += AuditLogCodec.encode(row(id)).length() + 1;
+        }
+
+        assertThat(Files.size(dir.resolve("audit-2025-01.seg"))).isLessThan(raw / 3);
+    }
+
+    @Test
+    void deletesMonthsPastRetention() throws IOException {
+        assertThat(store.deleteBefore(FEB)).isEqualTo(1);
+
+        assertThat(store.months()).containsExactly(FEB);
+        assertThat(scan(new AuditLogFilter(), null, Integer.MAX_VALUE)).hasSize(100);
+    }
+
+    private void write(YearMonth month, long fromId, long toId) throws IOException {
+        try (SegmentWriter writer = store.append(month)) {
+            for (long id = fromId; id >= toId; id--) {
+                writer.add(row(id));
+            }
+        }
+    }
+
+    private List<Long> scan(AuditLogFilter filter, PageCursor after, int max) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        store.scan(filter, after, row -> {
+            ids.add(row.getId());
+            return ids.size() < max;
+        });
+        return ids;
+    }
+
+    /* ids 1-100 fall in January, 101-200 in February */
+    private static LocalDateTime at(long id) {
+        return id <= 100
+                ? JAN.atDay(1).atStartOfDay().plusHours(id)
+                : FEB.atDay(1).atStartOfDay().plusHours(id - 100);
+    }
+
+    private static AuditLog row(long id) {
+        AuditLog row = new AuditLog();
+        row.setId(id);
+        row.setAction(id % 2 == 0 ? "APPROVE" : "LOGIN");
+        row.setPerformedBy("user" + (id % 4) + "@example.com");
+        row.setRole("EMPLOYEE");
+        row.setEntityType("Workflow");
+        row.setEntityId(id % 10);
+        row.setCreatedAt(at(id));
+        return row;
+    }
+}
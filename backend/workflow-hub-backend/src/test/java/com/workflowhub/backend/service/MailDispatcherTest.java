@@ -0,0 +1,80 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void sendsABatchInOneCallAndBlocksUntilDone() {
+        MailDispatcher dispatcher = dispatcher(smtp.getSmtp().getPort());
+
+        List<SimpleMailMessage> batch = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            batch.add(message("user" + i + "@example.com"));
+        }
+
+        assertThat(dispatcher.send(batch)).isEmpty();
+
+        // Already delivered when send returns
+        assertThat(smtp.getReceivedMessages()).hasSize(12);
+        assertThat(registry.counter("mail.sent").count()).isEqualTo(12);
+        assertThat(registry.timer("mail.send.latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    void reportsEveryMessageOfABatchThatCouldNotBeSent() {
+        // Nothing listens on this port, so the connection fails
+        MailDispatcher dispatcher = dispatcher(smtp.getSmtp().getPort() + 1);
+
+        Map<Integer, Exception> failed = dispatcher.send(List.of(
+                message("a@example.com"), message("b@example.com"), message("c@example.com")));
+
+        assertThat(failed).containsOnlyKeys(0, 1, 2);
+        assertThat(registry.counter("mail.failed").count()).isEqualTo(3);
+        assertThat(registry.counter("mail.sent").count()).isZero();
+    }
+
+    @Test
+    void emptyBatchSendsNothing() {
+        MailDispatcher dispatcher = dispatcher(smtp.getSmtp().getPort());
+
+        assertThat(dispatcher.send(List.of())).isEmpty();
+        assertThat(registry.timer("mail.send.latency").count()).isZero();
+    }
+
+    private MailDispatcher dispatcher(int port) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(port);
+
+        return new MailDispatcher(sender, registry);
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@example.com");
+        message.setTo(to);
+        message.setSubject("Workflow Request Status Update");
+        message.setText("Your request has been APPROVED.");
+        return message;
+    }
+}
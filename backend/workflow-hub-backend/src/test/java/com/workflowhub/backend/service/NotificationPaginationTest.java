@@ -0,0 +1,117 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.NotificationView;
+import com.workflowhub.backend.entity.User;
+
+/**
+ * Following nextCursor through the merged direct + broadcast list must reach
+ * every notification exactly once, including direct rows and broadcasts that
+ * share both createdAt and id.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(NotificationService.class)
+class NotificationPaginationTest {
+
+    // Later than anything other tests write, so their broadcasts stay out of view
+    private static final LocalDateTime START = LocalDateTime.of(2031, 1, 1, 9, 0);
+
+    // Clear of the ids other tests seed into the shared embedded database
+    private static final long FIRST_ID = 900_001;
+    private static final long OWNER = 900_001;
+    private static final long OTHER = 900_002;
+
+    private static final int ROWS = 40;
+
+    @MockitoBean
+    private NotificationStreamService streamService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private User owner;
+
+    @BeforeEach
+    void seed() {
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                List.of(
+                        new Object[] { OWNER, "Owner", "np-owner@example.com", "x", "EMPLOYEE", Timestamp.valueOf(START) },
+                        new Object[] { OTHER, "Other", "np-other@example.com", "x", "EMPLOYEE", Timestamp.valueOf(START) }));
+
+        // Direct and broadcast rows reuse the same ids and timestamps, four
+        // rows per minute; every third direct row belongs to someone else
+        List<Object[]> direct = new ArrayList<>();
+        List<Object[]> broadcasts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp at = Timestamp.valueOf(START.plusMinutes(1 + i / 4));
+            direct.add(new Object[] { FIRST_ID + i, i % 3 == 0 ? OTHER : OWNER, "Direct " + i, at });
+            broadcasts.add(new Object[] { FIRST_ID + i, i % 5 == 0 ? "ADMIN" : "EMPLOYEE", "Broadcast " + i, at });
+        }
+        // Sent before the owner joined, so never part of their list
+        broadcasts.add(new Object[] {
+                FIRST_ID + ROWS, "EMPLOYEE", "Before", Timestamp.valueOf(START.minusMinutes(1)) });
+
+        jdbc.batchUpdate(
+                "INSERT INTO notification (id, user_id, message, read_status, created_at) VALUES (?, ?, ?, FALSE, ?)",
+                direct);
+        jdbc.batchUpdate(
+                "INSERT INTO broadcast_notifications (id, audience_role, message, created_at) VALUES (?, ?, ?, ?)",
+                broadcasts);
+
+        owner = new User();
+        owner.setId(OWNER);
+        owner.setRole(User.Role.EMPLOYEE);
+        owner.setCreatedAt(START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 7, 100 })
+    void pagesCoverEveryNotificationOnce(int size) {
+        List<NotificationView> walked = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            CursorPage<NotificationView> page =
+                    notificationService.getUserNotifications(owner, cursor, size);
+            assertThat(page.getItems()).isNotEmpty();
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        long directs = walked.stream().filter(n -> n.getType() == NotificationView.Type.DIRECT).count();
+        long broadcasts = walked.stream().filter(n -> n.getType() == NotificationView.Type.BROADCAST).count();
+
+        assertThat(directs).isEqualTo(ROWS - (ROWS + 2) / 3);
+        assertThat(broadcasts).isEqualTo(ROWS - ROWS / 5);
+        assertThat(walked).extracting(n -> n.getType() + "-" + n.getId()).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(
+                Comparator.comparing(NotificationView::getCreatedAt)
+                        .thenComparing(NotificationView::getId)
+                        .reversed());
+    }
+}
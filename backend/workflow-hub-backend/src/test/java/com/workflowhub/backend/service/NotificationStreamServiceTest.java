@@ -0,0 +1,204 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.workflowhub.backend.dto.NotificationView;
+import com.workflowhub.backend.entity.Notification;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.repository.BroadcastNotificationRepository;
+import com.workflowhub.backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationStreamServiceTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final BroadcastNotificationRepository broadcastRepository =
+            mock(BroadcastNotificationRepository.class);
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private NotificationStreamService streams;
+
+    /* Records sends instead of writing to a servlet response */
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch blockSends;
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            CountDownLatch block = blockSends;
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder event = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                event.append(part.getData() instanceof NotificationView view
+                        ? view.getMessage()
+                        : String.valueOf(part.getData()));
+            }
+            events.add(event.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        streams = new NotificationStreamService(new SimpleMeterRegistry(), false, 4) {
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(streams, "notificationRepository", notificationRepository);
+        ReflectionTestUtils.setField(streams, "broadcastRepository", broadcastRepository);
+        ReflectionTestUtils.setField(streams, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(streams, "maxPerUser", 5);
+
+        when(notificationRepository.findTopByUserIdOrderByIdDesc(anyLong())).thenReturn(Optional.empty());
+        when(broadcastRepository.findTopByAudienceRoleOrderByIdDesc(any())).thenReturn(Optional.empty());
+        when(notificationRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong()))
+                .thenReturn(List.of());
+        when(broadcastRepository.findTop100ByAudienceRoleAndIdGreaterThanOrderByIdAsc(any(), anyLong()))
+                .thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(e -> {
+            if (e.blockSends != null) {
+                e.blockSends.countDown();
+            }
+        });
+        streams.shutdown();
+    }
+
+    @Test
+    void replacingTheOnlyAllowedConnectionStillDelivers() {
+        ReflectionTestUtils.setField(streams, "maxPerUser", 1);
+        User user = user(1L);
+
+        streams.subscribe(user, null);
+        streams.subscribe(user, null);
+        RecordingEmitter first = emitters.get(0);
+        RecordingEmitter second = emitters.get(1);
+
+        streams.publish(notification(user, 10L, "hello"));
+
+        awaitEvent(second, "hello");
+        assertThat(first.completed).isTrue();
+        assertThat(first.events).noneMatch(e -> e.contains("hello"));
+    }
+
+    @Test
+    void slowClientDoesNotHoldUpOthers() {
+        User slow = user(1L);
+        User fast = user(2L);
+
+        streams.subscribe(slow, null);
+        streams.subscribe(fast, null);
+        RecordingEmitter slowEmitter = emitters.get(0);
+        awaitEvent(slowEmitter, "ready");
+        slowEmitter.blockSends = new CountDownLatch(1);
+
+        streams.publish(notification(slow, 10L, "to slow"));
+        streams.publish(notification(fast, 11L, "to fast"));
+
+        awaitEvent(emitters.get(1), "to fast");
+        assertThat(slowEmitter.events).noneMatch(e -> e.contains("to slow"));
+
+        slowEmitter.blockSends.countDown();
+        awaitEvent(slowEmitter, "to slow");
+    }
+
+    @Test
+    void clientThatFallsTooFarBehindIsDisconnected() {
+        User user = user(1L);
+
+        streams.subscribe(user, null);
+        RecordingEmitter emitter = emitters.get(0);
+        awaitEvent(emitter, "ready");
+        emitter.blockSends = new CountDownLatch(1);
+
+        for (long id = 1; id <= NotificationStreamService.MAX_QUEUED + 2; id++) {
+            streams.publish(notification(user, id, "n" + id));
+        }
+
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void rowThatCommitsAfterAHigherIdIsStillPushed() {
+        User user = user(1L);
+
+        streams.subscribe(user, null);
+        RecordingEmitter emitter = emitters.get(0);
+        awaitEvent(emitter, "ready");
+
+        streams.publish(notification(user, 12L, "committed first"));
+        streams.publish(notification(user, 11L, "committed late"));
+
+        awaitEvent(emitter, "committed late");
+        assertThat(emitter.events).anyMatch(e -> e.contains("committed first"));
+        assertThat(emitter.completed).isFalse();
+    }
+
+    private static void awaitEvent(RecordingEmitter emitter, String text) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (emitter.events.stream().noneMatch(e -> e.contains(text))) {
+            assertThat(System.nanoTime()).as("waiting for %s", text).isLessThan(deadline);
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(User.Role.EMPLOYEE);
+        return user;
+    }
+
+    private static Notification notification(User user, Long id, String message) {
+        Notification n = new Notification();
+        ReflectionTestUtils.setField(n, "id", id);
+        n.setUser(user);
+        n.setMessage(message);
+        return n;
+    }
+}
@@ -0,0 +1,344 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.repository.OutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({OutboxRepository.class, OutboxService.class, OutboxRelayTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final String TYPE = "TEST";
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    record Payload(int n) {
+    }
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    @AfterEach
+    void clean() {
+        jdbc.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    void enqueueJoinsTheCallersTransactionAndRollsBackWithIt() {
+        assertThatThrownBy(() -> outboxService.enqueue(TYPE, 1L, new Payload(1)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            outboxService.enqueue(TYPE, 1L, new Payload(1));
+            status.setRollbackOnly();
+        });
+        assertThat(count(null)).isZero();
+
+        enqueue(2);
+        assertThat(count("PENDING")).isEqualTo(2);
+    }
+
+    @Test
+    void deliversPendingEventsAndRecordsLatency() {
+        List<String> delivered = new ArrayList<>();
+        OutboxRelay relay = relay(handler(delivered::add), 10, 0);
+
+        enqueue(3);
+        relay.poll();
+
+        assertThat(delivered).containsExactly("{\"n\":0}", "{\"n\":1}", "{\"n\":2}");
+        assertThat(count("SENT")).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.delivery.latency").tag("type", TYPE).timer().count())
+                .isEqualTo(3);
+
+        // Nothing left to claim
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void pollPublishesQueueDepthAndOldestAge() {
+        OutboxRelay relay = relay(handler(p -> { }), 10, 0);
+
+        relay.poll();
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("outbox.oldest.pending.age").timeGauge().value(TimeUnit.SECONDS)).isZero();
+
+        // Three events due for a minute, one still backed off
+        enqueue(4);
+        jdbc.update("UPDATE outbox_events SET available_at = ?", LocalDateTime.now().minusMinutes(1));
+        jdbc.update("UPDATE outbox_events SET available_at = ? WHERE id = (SELECT MAX(id) FROM outbox_events)",
+                LocalDateTime.now().plusMinutes(5));
+
+        relay.refreshBacklog();
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isEqualTo(4);
+        assertThat(meterRegistry.get("outbox.oldest.pending.age").timeGauge().value(TimeUnit.SECONDS))
+                .isBetween(59.0, 120.0);
+    }
+
+    @Test
+    void failedEventsBackOffExponentiallyThenGoDead() {
+        OutboxRelay slow = relay(handler(p -> {
+            throw new IllegalStateException("smtp down");
+        }), 10, 60_000);
+
+        assertThat(slow.backoff(1)).isEqualTo(60_000);
+        assertThat(slow.backoff(2)).isEqualTo(120_000);
+        assertThat(slow.backoff(40)).isEqualTo(600_000);
+
+        enqueue(1);
+        slow.relayBatch();
+
+        Map<String, Object> row = jdbc.queryForMap("SELECT status, attempts, available_at, last_error FROM outbox_events");
+        assertThat(row.get("STATUS")).isEqualTo("PENDING");
+        assertThat(row.get("ATTEMPTS")).isEqualTo(1);
+        assertThat(((Timestamp) row.get("AVAILABLE_AT")).toLocalDateTime())
+                .isAfter(LocalDateTime.now().plusSeconds(50));
+        assertThat((String) row.get("LAST_ERROR")).contains("smtp down");
+
+        // Backed off: not due again yet
+        assertThat(slow.relayBatch()).isZero();
+
+        // With no backoff every poll retries, until max-attempts
+        OutboxRelay eager = relay(handler(p -> {
+            throw new IllegalStateException("smtp down");
+        }), 10, 0);
+        jdbc.update("UPDATE outbox_events SET available_at = ?", LocalDateTime.now().minusSeconds(1));
+        for (int i = 0; i < 5; i++) {
+            eager.relayBatch();
+        }
+
+        assertThat(count("DEAD")).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT attempts FROM outbox_events", Integer.class)).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.dead").tag("type", TYPE).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void parallelRelaysDeliverEveryEventExactlyOnce() throws Exception {
+        int events = 200;
+        enqueue(events);
+
+        Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+        OutboxHandler handler = handler(p -> {
+            deliveries.computeIfAbsent(p, k -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(1);
+        });
+
+        ExecutorService nodes = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> claimed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            OutboxRelay relay = relay(handler, 10, 0);
+            claimed.add(nodes.submit(() -> {
+                start.await();
+                int total = 0;
+                int batch;
+                while ((batch = relay.relayBatch()) > 0) {
+                    total += batch;
+                }
+                return total;
+            }));
+        }
+        start.countDown();
+
+        int total = 0;
+        for (Future<Integer> f : claimed) {
+            total += f.get(30, TimeUnit.SECONDS);
+        }
+        nodes.shutdown();
+
+        assertThat(total).isEqualTo(events);
+        assertThat(deliveries).hasSize(events);
+        assertThat(deliveries.values()).allMatch(n -> n.get() == 1);
+        assertThat(count("SENT")).isEqualTo(events);
+    }
+
+    @Test
+    void slowChunksRenewTheLeaseOfRowsStillWaiting() {
+        enqueue(6);
+
+        List<Integer> chunks = new ArrayList<>();
+        List<Integer> expired = new ArrayList<>();
+        OutboxHandler handler = new OutboxHandler() {
+            @Override
+            public String type() {
+                return TYPE;
+            }
+
+            @Override
+            public void handle(String payload) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<Integer, Exception> handleAll(List<String> payloads) {
+                chunks.add(payloads.size());
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                // Claimed rows another relay could take right now
+                expired.add(jdbc.queryForObject(
+                        "SELECT COUNT(*) FROM outbox_events WHERE status = 'PENDING' AND available_at <= ?",
+                        Integer.class, Timestamp.valueOf(LocalDateTime.now())));
+                return Map.of();
+            }
+        };
+
+        // Three chunks of 300 ms against a 400 ms lease
+        relay(handler, 10, 2, 400, 0).relayBatch();
+
+        assertThat(chunks).containsExactly(2, 2, 2);
+        assertThat(expired).containsOnly(0);
+        assertThat(count("SENT")).isEqualTo(6);
+    }
+
+    @Test
+    void chunkFailuresAreRetriedIndividually() {
+        enqueue(3);
+
+        OutboxHandler handler = new OutboxHandler() {
+            @Override
+            public String type() {
+                return TYPE;
+            }
+
+            @Override
+            public void handle(String payload) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<Integer, Exception> handleAll(List<String> payloads) {
+                return Map.of(1, new IllegalStateException("mailbox full"));
+            }
+        };
+
+        relay(handler, 10, 3, 60_000, 60_000).relayBatch();
+
+        assertThat(count("SENT")).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT payload FROM outbox_events WHERE status = 'PENDING'", String.class))
+                .isEqualTo("{\"n\":1}");
+    }
+
+    @Test
+    void bulkNotificationsTravelAsOneEvent() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        NotificationOutboxHandler.Payload payload = new NotificationOutboxHandler.Payload(List.of(
+                new NotificationOutboxHandler.Message(1L, "Your request 'a' was APPROVED"),
+                new NotificationOutboxHandler.Message(2L, "Your request 'b' was APPROVED")));
+
+        String json = mapper.writeValueAsString(payload);
+        assertThat(mapper.readValue(json, NotificationOutboxHandler.Payload.class)).isEqualTo(payload);
+        assertThat(mapper.readValue(mapper.writeValueAsString(NotificationOutboxHandler.Payload.of(3L, "x")),
+                NotificationOutboxHandler.Payload.class).messages()).hasSize(1);
+    }
+
+    /* =========================
+       HELPERS
+       ========================= */
+
+    interface Body {
+        void accept(String payload) throws Exception;
+    }
+
+    private static OutboxHandler handler(Body body) {
+        return new OutboxHandler() {
+            @Override
+            public String type() {
+                return TYPE;
+            }
+
+            @Override
+            public void handle(String payload) throws Exception {
+                body.accept(payload);
+            }
+        };
+    }
+
+    private OutboxRelay relay(OutboxHandler handler, int batchSize, long backoffMillis) {
+        return relay(handler, batchSize, 20, 60_000, backoffMillis);
+    }
+
+    private OutboxRelay relay(OutboxHandler handler, int batchSize, int chunkSize,
+                              long leaseMillis, long backoffMillis) {
+        return new OutboxRelay(List.of(handler), outboxRepository, meterRegistry,
+                batchSize, chunkSize, leaseMillis, 3, backoffMillis, 600_000);
+    }
+
+    private void enqueue(int n) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < n; i++) {
+                outboxService.enqueue(TYPE, (long) i, new Payload(i));
+            }
+        });
+    }
+
+    private int count(String status) {
+        return status == null
+                ? jdbc.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)
+                : jdbc.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE status = ?", Integer.class, status);
+    }
+}
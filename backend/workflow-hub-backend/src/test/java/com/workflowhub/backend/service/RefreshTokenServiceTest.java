@@ -0,0 +1,213 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.exception.UnauthorizedException;
+import com.workflowhub.backend.repository.RevokedSessionRepository;
+import com.workflowhub.backend.repository.UserRepository;
+import com.workflowhub.backend.security.JwtUtil;
+import com.workflowhub.backend.security.SessionDenylist;
+import com.workflowhub.backend.security.SigningKeyStore;
+import com.workflowhub.backend.security.TokenVersionCache;
+import com.workflowhub.backend.security.VerifiedTokenCache;
+import com.workflowhub.backend.service.RefreshTokenService.Tokens;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = "jwt.expiration=600000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({RefreshTokenService.class, UserService.class, JwtUtil.class, VerifiedTokenCache.class,
+        SigningKeyStore.class, TokenVersionCache.class, SessionDenylist.class,
+        RefreshTokenServiceTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTest {
+
+    private static final long USER_ID = 900_201;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SessionDenylist denylist;
+
+    @Autowired
+    private RevokedSessionRepository revokedSessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("""
+                INSERT INTO users (id, name, email, password, role, created_at)
+                VALUES (?, 'Sam', 'sam@example.com', 'x', 'EMPLOYEE', ?)
+                """, USER_ID, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM refresh_tokens WHERE user_id = ?", USER_ID);
+        jdbc.update("DELETE FROM revoked_sessions");
+        jdbc.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    void refreshRotatesWithinTheSessionAndStoresOnlyHashes() {
+        Tokens first = open();
+        Tokens second = refreshTokenService.refresh(first.refreshToken());
+
+        assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+        assertThat(sessionOf(second)).isEqualTo(sessionOf(first));
+        assertThat(second.expiresInSeconds()).isEqualTo(600);
+
+        assertThat(jdbc.queryForList("SELECT token_hash FROM refresh_tokens WHERE user_id = ?",
+                String.class, USER_ID))
+                .hasSize(2)
+                .doesNotContain(first.refreshToken(), second.refreshToken())
+                .allSatisfy(hash -> assertThat(hash).hasSize(64));
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesTheWholeSession() {
+        Tokens first = open();
+        Tokens second = refreshTokenService.refresh(first.refreshToken());
+        String session = sessionOf(first);
+
+        assertThat(denylist.isRevoked(session)).isFalse();
+        rotatedAWhileAgo(first);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+
+        // The legitimate holder is cut off too, and so are the session's access tokens
+        assertThatThrownBy(() -> refreshTokenService.refresh(second.refreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(denylist.isRevoked(session)).isTrue();
+        assertThat(meterRegistry.counter("auth.refresh.reuse").count()).isEqualTo(2);
+
+        // Another login of the same user is untouched
+        Tokens other = open();
+        assertThat(denylist.isRevoked(sessionOf(other))).isFalse();
+        assertThat(refreshTokenService.refresh(other.refreshToken())).isNotNull();
+    }
+
+    @Test
+    void twoTabsRefreshingTheSameTokenBothStaySignedIn() throws Exception {
+        Tokens first = open();
+
+        // Both tabs got a 401 and present the same stored token
+        CompletableFuture<Tokens> tabA = CompletableFuture.supplyAsync(
+                () -> refreshTokenService.refresh(first.refreshToken()));
+        CompletableFuture<Tokens> tabB = CompletableFuture.supplyAsync(
+                () -> refreshTokenService.refresh(first.refreshToken()));
+
+        Tokens a = tabA.get(10, TimeUnit.SECONDS);
+        Tokens b = tabB.get(10, TimeUnit.SECONDS);
+
+        assertThat(a.refreshToken()).isNotEqualTo(b.refreshToken());
+        assertThat(sessionOf(a)).isEqualTo(sessionOf(first)).isEqualTo(sessionOf(b));
+        assertThat(denylist.isRevoked(sessionOf(first))).isFalse();
+        assertThat(meterRegistry.counter("auth.refresh.concurrent").count()).isEqualTo(1);
+
+        // Each tab carries on with its own token
+        assertThat(refreshTokenService.refresh(a.refreshToken())).isNotNull();
+        assertThat(refreshTokenService.refresh(b.refreshToken())).isNotNull();
+    }
+
+    @Test
+    void graceWindowDoesNotReopenALoggedOutSession() {
+        Tokens first = open();
+        Tokens second = refreshTokenService.refresh(first.refreshToken());
+
+        refreshTokenService.logout(second.refreshToken());
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(first.refreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void denylistIsRebuiltFromTheTableOnStartup() {
+        Tokens tokens = open();
+        refreshTokenService.logout(tokens.refreshToken());
+
+        SessionDenylist restarted = new SessionDenylist();
+        ReflectionTestUtils.setField(restarted, "revokedSessionRepository", revokedSessionRepository);
+        ReflectionTestUtils.setField(restarted, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(restarted, "expectedEntries", 100);
+        ReflectionTestUtils.setField(restarted, "falsePositiveRate", 0.01);
+        restarted.load();
+
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.isRevoked(sessionOf(tokens))).isTrue();
+    }
+
+    @Test
+    void logoutEverywhereRevokesRefreshTokens() {
+        Tokens tokens = open();
+
+        userService.revokeTokens(USER_ID);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(tokens.refreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    /* Moves the token's rotation outside the grace window */
+    private void rotatedAWhileAgo(Tokens tokens) {
+        jdbc.update("UPDATE refresh_tokens SET revoked_at = ? WHERE token_hash = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)),
+                RefreshTokenService.hash(tokens.refreshToken()));
+    }
+
+    private Tokens open() {
+        return refreshTokenService.openSession(userRepository.findById(USER_ID).orElseThrow());
+    }
+
+    private String sessionOf(Tokens tokens) {
+        Claims claims = jwtUtil.extractAllClaims(tokens.accessToken());
+        return jwtUtil.extractSessionId(claims);
+    }
+}
@@ -0,0 +1,40 @@
+package com.workflowhub.backend.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.workflowhub.backend.entity.WorkflowCounter;
+import com.workflowhub.backend.repository.WorkflowCounterRepository;
+
+/**
+ * WorkflowVersionStamps over a map instead of workflow_counters, with no
+ * read caching, for unit tests that only need stamps to move.
+ */
+public final class VersionStampsFixture {
+
+    private VersionStampsFixture() {
+    }
+
+    public static WorkflowVersionStamps inMemory() {
+        Map<String, Long> rows = new ConcurrentHashMap<>();
+        WorkflowCounterRepository repository = mock(WorkflowCounterRepository.class);
+
+        when(repository.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<String>getArgument(0)))
+                .map(value -> new WorkflowCounter(inv.getArgument(0), value)));
+        when(repository.increment(anyString())).thenAnswer(inv ->
+                rows.computeIfPresent(inv.getArgument(0), (key, value) -> value + 1) == null ? 0 : 1);
+        when(repository.insertOne(anyString())).thenAnswer(inv -> {
+            rows.put(inv.getArgument(0), 1L);
+            return 1;
+        });
+
+        return new WorkflowVersionStamps(repository, Duration.ZERO, Ticker.systemTicker());
+    }
+}
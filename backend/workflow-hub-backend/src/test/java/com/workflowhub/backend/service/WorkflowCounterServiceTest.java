@@ -0,0 +1,124 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workflowhub.backend.entity.WorkflowCounter;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowCounterRepository;
+import com.workflowhub.backend.repository.WorkflowRepository;
+
+class WorkflowCounterServiceTest {
+
+    private static final Long USER = 7L;
+
+    private final WorkflowCounterRepository counterRepository = mock(WorkflowCounterRepository.class);
+    private final WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+    private final WorkflowVersionStamps versionStamps = VersionStampsFixture.inMemory();
+
+    private WorkflowCounterService counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new WorkflowCounterService();
+        ReflectionTestUtils.setField(counters, "counterRepository", counterRepository);
+        ReflectionTestUtils.setField(counters, "workflowRepository", workflowRepository);
+        ReflectionTestUtils.setField(counters, "versionStamps", versionStamps);
+
+        // Start from stored counters: one pending workflow for USER
+        when(counterRepository.findAll()).thenReturn(List.of(
+                new WorkflowCounter(WorkflowCounterService.statusKey(WorkflowStatus.PENDING), 1),
+                new WorkflowCounter(WorkflowCounterService.userKey(USER, "total"), 1),
+                new WorkflowCounter(WorkflowCounterService.userKey(USER, "PENDING"), 1)));
+        when(counterRepository.addDelta(anyString(), anyLong())).thenReturn(1);
+        counters.load();
+    }
+
+    @Test
+    void writesAreVisibleAndFlushedAsDeltas() {
+        counters.recordCreated(USER, WorkflowStatus.PENDING);
+        counters.recordTransition(USER, WorkflowStatus.PENDING, WorkflowStatus.APPROVED);
+
+        assertThat(counters.userTotal(USER)).isEqualTo(2);
+        assertThat(counters.userStatusCount(USER, WorkflowStatus.PENDING)).isEqualTo(1);
+        assertThat(counters.statusCount(WorkflowStatus.APPROVED)).isEqualTo(1);
+
+        counters.flush();
+
+        verify(counterRepository).addDelta(WorkflowCounterService.userKey(USER, "total"), 1);
+        verify(counterRepository).addDelta(WorkflowCounterService.statusKey(WorkflowStatus.APPROVED), 1);
+        // Created then moved on: the pending delta nets out and is not written
+        verify(counterRepository, never())
+                .addDelta(eq(WorkflowCounterService.statusKey(WorkflowStatus.PENDING)), anyLong());
+    }
+
+    @Test
+    void reconcileRepairsDriftAndInvalidatesStamps() {
+        String before = versionStamps.user(USER);
+        stubTruth(3, () -> { });
+
+        counters.reconcile();
+
+        assertThat(counters.userTotal(USER)).isEqualTo(3);
+        assertThat(counters.statusCount(WorkflowStatus.PENDING)).isEqualTo(3);
+        assertThat(versionStamps.user(USER)).isNotEqualTo(before);
+    }
+
+    @Test
+    void changeCountedDuringReconcileSurvives() {
+        // The table says 1; a workflow created while the GROUP BYs run
+        // commits after their snapshot, so the truth does not include it
+        stubTruth(1, () -> counters.recordCreated(USER, WorkflowStatus.PENDING));
+
+        counters.reconcile();
+
+        assertThat(counters.userTotal(USER)).isEqualTo(2);
+        assertThat(counters.statusCount(WorkflowStatus.PENDING)).isEqualTo(2);
+
+        // And it is still owed to workflow_counters on top of the stored truth
+        counters.flush();
+        verify(counterRepository).addDelta(WorkflowCounterService.userKey(USER, "total"), 1);
+        verify(counterRepository).addDelta(WorkflowCounterService.statusKey(WorkflowStatus.PENDING), 1);
+    }
+
+    @Test
+    void reconcileReplacesDeltasItHasStored() {
+        counters.recordCreated(USER, WorkflowStatus.PENDING);
+        stubTruth(2, () -> { });
+
+        counters.reconcile();
+        counters.flush();
+
+        verify(counterRepository).saveAll(anyList());
+        verify(counterRepository, never()).addDelta(anyString(), anyLong());
+    }
+
+    /* Pending workflows in the table for USER; duringQuery runs mid GROUP BY */
+    private void stubTruth(long pending, Runnable duringQuery) {
+        when(workflowRepository.countGroupedByStatus()).thenAnswer(inv -> {
+            duringQuery.run();
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] { WorkflowStatus.PENDING, pending });
+            return rows;
+        });
+        when(workflowRepository.countGroupedByUserAndStatus()).thenAnswer(inv -> {
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] { USER, WorkflowStatus.PENDING, pending });
+            return rows;
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.entity.Workflow;
+import com.workflowhub.backend.repository.OutboxRepository;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+
+/**
+ * The admin broadcast for a new request is an outbox row written by
+ * createWorkflow itself, so it commits and rolls back with the request.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({WorkflowService.class, WorkflowBulkRepository.class,
+        WorkflowTransitionLog.class, WorkflowTransitionRepository.class,
+        OutboxService.class, OutboxRepository.class, WorkflowCreateOutboxTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkflowCreateOutboxTest {
+
+    // Clear of the ids other tests seed into the shared embedded database
+    private static final long REQUESTER = 920_001;
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private WorkflowCounterService counterService;
+
+    @MockitoBean
+    private WorkflowSearchIndex searchIndex;
+
+    @MockitoBean
+    private WorkflowTimelineCache timelineCache;
+
+    private User requester;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("""
+                INSERT INTO users (id, name, email, password, role, created_at)
+                VALUES (?, 'Robin', 'robin@example.com', 'x', 'EMPLOYEE', ?)
+                """, REQUESTER, Timestamp.valueOf(LocalDateTime.now()));
+
+        requester = new User();
+        requester.setId(REQUESTER);
+        requester.setName("Robin");
+        requester.setEmail("robin@example.com");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM outbox_events");
+        jdbc.update("DELETE FROM workflow_transitions WHERE workflow_id IN (SELECT id FROM workflows WHERE user_id = ?)",
+                REQUESTER);
+        jdbc.update("DELETE FROM workflows WHERE user_id = ?", REQUESTER);
+        jdbc.update("DELETE FROM users WHERE id = ?", REQUESTER);
+    }
+
+    @Test
+    void createdRequestQueuesTheAdminBroadcast() throws Exception {
+        Workflow saved = workflowService.createWorkflow(workflow("Laptop"));
+
+        String payload = jdbc.queryForObject(
+                "SELECT payload FROM outbox_events WHERE event_type = ? AND aggregate_id = ?",
+                String.class, BroadcastOutboxHandler.TYPE, saved.getId());
+
+        // Delivered by the relay through the handler, like decision notifications
+        NotificationService notificationService = mock(NotificationService.class);
+        BroadcastOutboxHandler handler = new BroadcastOutboxHandler();
+        ReflectionTestUtils.setField(handler, "notificationService", notificationService);
+        ReflectionTestUtils.setField(handler, "objectMapper", objectMapper);
+        handler.handle(payload);
+
+        verify(notificationService).broadcast(User.Role.ADMIN, "New request submitted by Robin");
+    }
+
+    @Test
+    void rolledBackRequestAnnouncesNothing() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            workflowService.createWorkflow(workflow("Monitor"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ?",
+                Integer.class, BroadcastOutboxHandler.TYPE)).isZero();
+    }
+
+    private Workflow workflow(String title) {
+        Workflow workflow = new Workflow();
+        workflow.setTitle(title);
+        workflow.setUser(requester);
+        return workflow;
+    }
+}
@@ -0,0 +1,159 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.workflowhub.backend.dto.CursorPage;
+import com.workflowhub.backend.dto.WorkflowSummary;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
+import com.workflowhub.backend.repository.WorkflowRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The list endpoints must cost one SELECT per request whatever the page
+ * size. Loading Workflow entities instead would add a users lookup for
+ * every distinct requester and approver on the page.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(WorkflowService.class)
+class WorkflowListStatementCountTest {
+
+    private static final int USERS = 60;
+    private static final int ADMINS = 5;
+    private static final long REQUESTER = ADMINS + 1;
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private WorkflowRepository workflowRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private WorkflowBulkRepository bulkRepository;
+
+    @MockitoBean
+    private WorkflowTransitionLog transitionLog;
+
+    @MockitoBean
+    private WorkflowCounterService counterService;
+
+    @MockitoBean
+    private WorkflowSearchIndex searchIndex;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(new Object[] {
+                    (long) i, "User " + i, "user" + i + "@example.com", "x",
+                    i <= ADMINS ? "ADMIN" : "EMPLOYEE", Timestamp.valueOf(now)
+            });
+        }
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                users);
+
+        // Every row has its own requester; REQUESTER owns every fifth one
+        List<Object[]> workflows = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            boolean pending = i % 2 == 0;
+            long owner = i % 5 == 0 ? REQUESTER : ADMINS + 1 + (i % (USERS - ADMINS));
+            workflows.add(new Object[] {
+                    (long) i, "Request " + i, owner,
+                    pending ? "PENDING" : "APPROVED",
+                    pending ? null : (long) (i % ADMINS) + 1,
+                    Timestamp.valueOf(now.minusMinutes(500 - i)),
+                    pending ? null : Timestamp.valueOf(now)
+            });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO workflows (id, title, user_id, status, approved_by, created_at, approved_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, workflows);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 5, 20, 100 })
+    void myWorkflowsIsOneStatement(int size) {
+        CursorPage<WorkflowSummary> page =
+                statements(() -> workflowService.myWorkflows(REQUESTER, null, size), 1);
+
+        assertThat(page.getItems()).hasSize(size);
+        assertThat(page.getItems()).allSatisfy(w ->
+                assertThat(w.getUser().getName()).isEqualTo("User " + REQUESTER));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 5, 20, 100 })
+    void pendingQueueIsOneStatement(int size) {
+        CursorPage<WorkflowSummary> first =
+                statements(() -> workflowService.pendingWorkflows(null, size), 1);
+        CursorPage<WorkflowSummary> second =
+                statements(() -> workflowService.pendingWorkflows(first.getNextCursor(), size), 1);
+
+        assertThat(first.getItems()).hasSize(size);
+        assertThat(second.getItems()).hasSize(size);
+    }
+
+    @Test
+    void unpagedFindersAreOneStatement() {
+        List<WorkflowSummary> pending = statements(
+                () -> workflowRepository.findByStatusOrderByCreatedAtDesc(WorkflowStatus.PENDING), 1);
+        List<WorkflowSummary> mine = statements(
+                () -> workflowRepository.findByUserIdOrderByCreatedAtDesc(REQUESTER), 1);
+        List<WorkflowSummary> decided = statements(
+                () -> workflowRepository.findByApprovedByIdOrderByApprovedAtDesc(1L), 1);
+
+        assertThat(pending).hasSize(250);
+        assertThat(mine).hasSize(100);
+        assertThat(decided).isNotEmpty()
+                .allSatisfy(w -> assertThat(w.getApprovedBy().getId()).isEqualTo(1L));
+    }
+
+    private <T> T statements(Supplier<T> call, long expected) {
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements issued")
+                .isEqualTo(expected);
+        return result;
+    }
+}
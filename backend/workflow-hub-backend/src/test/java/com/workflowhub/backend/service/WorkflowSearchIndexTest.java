@@ -0,0 +1,131 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowSearchRepository;
+import com.workflowhub.backend.repository.WorkflowSearchRepository.Document;
+import com.workflowhub.backend.service.WorkflowSearchIndex.Hit;
+import com.workflowhub.backend.service.WorkflowSearchIndex.Result;
+
+class WorkflowSearchIndexTest {
+
+    private final WorkflowSearchRepository repository = mock(WorkflowSearchRepository.class);
+
+    private WorkflowSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WorkflowSearchIndex();
+        ReflectionTestUtils.setField(index, "searchRepository", repository);
+    }
+
+    @Test
+    void tokenizesOnNonAlphanumericsAndDropsStopWords() {
+        assertThat(WorkflowSearchIndex.tokenize("Laptop-Refresh for the Q3 team, v2!"))
+                .containsExactly("laptop", "refresh", "q3", "team", "v2");
+    }
+
+    @Test
+    void matchesEveryTermAndRanksTitleHitsFirst() {
+        index.add(doc(1, "Travel request", "Flight to Berlin for the laptop conference"));
+        index.add(doc(2, "Laptop purchase", "New laptop for travel"));
+        index.add(doc(3, "Laptop repair", "Broken screen"));
+
+        assertThat(ids(index.search("laptop travel", null, null, 0, 10)))
+                .containsExactlyInAnyOrder(1L, 2L);
+        // Only 1 mentions it outside the title
+        assertThat(ids(index.search("LAPTOP", null, null, 0, 10)))
+                .hasSize(3)
+                .endsWith(1L);
+        assertThat(ids(index.search("laptop printer", null, null, 0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void filtersByStatusAndRequester() {
+        index.add(new Document(1L, "Budget review", null, WorkflowStatus.PENDING, 10L));
+        index.add(new Document(2L, "Budget review", null, WorkflowStatus.PENDING, 20L));
+        index.add(new Document(3L, "Budget review", null, WorkflowStatus.PENDING, 10L));
+
+        index.updateStatus(3L, WorkflowStatus.APPROVED);
+
+        assertThat(ids(index.search("budget", WorkflowStatus.PENDING, null, 0, 10)))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("budget", null, 10L, 0, 10)))
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(ids(index.search("budget", WorkflowStatus.APPROVED, 10L, 0, 10)))
+                .containsExactly(3L);
+    }
+
+    @Test
+    void pagesThroughRankedHits() {
+        for (long id = 1; id <= 25; id++) {
+            index.add(doc(id, "Expense claim", "Hotel receipts attached"));
+        }
+
+        Result first = index.search("expense", null, null, 0, 10);
+        Result last = index.search("expense", null, null, 20, 10);
+
+        assertThat(first.hits()).hasSize(10);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(last.hits()).hasSize(5);
+        assertThat(last.hasMore()).isFalse();
+
+        // Equal scores fall back to newest first
+        assertThat(ids(first)).startsWith(25L, 24L, 23L);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileItRuns() throws Exception {
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+
+        doAnswer(inv -> {
+            Consumer<Document> sink = inv.getArgument(0);
+            sink.accept(doc(1, "Office chairs", null));
+            streaming.countDown();
+            resume.await(5, TimeUnit.SECONDS);
+            // Row 2 was committed after the scan passed it
+            return null;
+        }).when(repository).streamAll(any());
+
+        index.add(doc(1, "Office chairs", null));
+
+        Thread rebuild = new Thread(index::rebuild);
+        rebuild.start();
+        assertThat(streaming.await(5, TimeUnit.SECONDS)).isTrue();
+
+        index.add(doc(2, "Office desks", null));
+        index.updateStatus(1L, WorkflowStatus.REJECTED);
+
+        resume.countDown();
+        rebuild.join(5000);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.search("office", WorkflowStatus.PENDING, null, 0, 10)))
+                .containsExactly(2L);
+        assertThat(ids(index.search("office", WorkflowStatus.REJECTED, null, 0, 10)))
+                .containsExactly(1L);
+    }
+
+    private static Document doc(long id, String title, String description) {
+        return new Document(id, title, description, WorkflowStatus.PENDING, 1L);
+    }
+
+    private static List<Long> ids(Result result) {
+        return result.hits().stream().map(Hit::id).toList();
+    }
+}
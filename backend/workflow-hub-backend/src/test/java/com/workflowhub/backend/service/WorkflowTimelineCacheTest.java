@@ -0,0 +1,167 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+import com.workflowhub.backend.service.WorkflowTimelineCache.Timeline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkflowTimelineCacheTest {
+
+    private final WorkflowTransitionRepository repository = mock(WorkflowTransitionRepository.class);
+
+    // Stands in for the table
+    private final List<WorkflowTransition> rows = new ArrayList<>();
+
+    // Caffeine reads time through this
+    private final AtomicLong nanos = new AtomicLong();
+
+    private WorkflowTransitionLog transitionLog;
+
+    @BeforeEach
+    void setUp() {
+        transitionLog = new WorkflowTransitionLog();
+        ReflectionTestUtils.setField(transitionLog, "transitionRepository", repository);
+        ReflectionTestUtils.setField(transitionLog, "timelineCache",
+                new WorkflowTimelineCache(new SimpleMeterRegistry(), 100,
+                        Duration.ofSeconds(5), Duration.ofMinutes(60), nanos::get));
+
+        when(repository.findByWorkflowId(7L)).thenAnswer(inv -> List.copyOf(rows));
+        doAnswer(inv -> {
+            List<WorkflowTransition> batch = inv.getArgument(0);
+            for (WorkflowTransition t : batch) {
+                t.setId((long) rows.size() + 1);
+                rows.add(t);
+            }
+            return null;
+        }).when(repository).appendAll(anyList());
+
+        rows.add(transition(1L, null, WorkflowStatus.PENDING, "CREATED"));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void repeatedViewsAreServedFromTheCache() {
+        Timeline first = transitionLog.timeline(7L);
+        Timeline second = transitionLog.timeline(7L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).isEqualTo("t7-1-1");
+        assertThat(first.finalized()).isFalse();
+        verify(repository, times(1)).findByWorkflowId(7L);
+    }
+
+    @Test
+    void committedTransitionInvalidatesTheTimeline() {
+        Timeline before = transitionLog.timeline(7L);
+
+        inTransaction(true, () -> transitionLog.record(
+                7L, WorkflowStatus.PENDING, WorkflowStatus.APPROVED, "APPROVED", "admin@example.com"));
+
+        Timeline after = transitionLog.timeline(7L);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag()).isEqualTo("t7-2-2");
+        assertThat(after.finalized()).isTrue();
+        assertThat(after.entries()).extracting(WorkflowTransition::getAction)
+                .containsExactly("CREATED", "APPROVED");
+    }
+
+    @Test
+    void rolledBackTransitionLeavesTheCacheAlone() {
+        Timeline before = transitionLog.timeline(7L);
+
+        inTransaction(false, () -> transitionLog.record(
+                7L, WorkflowStatus.PENDING, WorkflowStatus.REJECTED, "REJECTED", "admin@example.com"));
+
+        assertThat(transitionLog.timeline(7L)).isSameAs(before);
+        verify(repository, times(1)).findByWorkflowId(7L);
+    }
+
+    @Test
+    void openTimelineExpiresEvenWhilePolled() {
+        Timeline first = transitionLog.timeline(7L);
+
+        // Another node records the decision; no invalidation reaches this one
+        rows.add(transition(2L, WorkflowStatus.PENDING, WorkflowStatus.APPROVED, "APPROVED"));
+
+        for (int second = 1; second < 5; second++) {
+            advance(Duration.ofSeconds(1));
+            assertThat(transitionLog.timeline(7L)).isSameAs(first);
+        }
+        advance(Duration.ofSeconds(1));
+
+        assertThat(transitionLog.timeline(7L).etag()).isEqualTo("t7-2-2");
+    }
+
+    @Test
+    void finalizedTimelineIsKeptLong() {
+        rows.add(transition(2L, WorkflowStatus.PENDING, WorkflowStatus.REJECTED, "REJECTED"));
+        Timeline first = transitionLog.timeline(7L);
+
+        advance(Duration.ofMinutes(59));
+        assertThat(transitionLog.timeline(7L)).isSameAs(first);
+
+        advance(Duration.ofMinutes(1));
+        assertThat(transitionLog.timeline(7L)).isNotSameAs(first);
+        verify(repository, times(2)).findByWorkflowId(7L);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    /* Drives the synchronization callbacks the way a transaction manager would */
+    private static void inTransaction(boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            List<TransactionSynchronization> syncs =
+                    TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.invokeAfterCommit(syncs);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(syncs, commit
+                    ? TransactionSynchronization.STATUS_COMMITTED
+                    : TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static WorkflowTransition transition(Long id, WorkflowStatus from, WorkflowStatus to, String action) {
+        WorkflowTransition t = new WorkflowTransition(7L, from, to, action, "emp@example.com",
+                LocalDateTime.of(2025, 1, 1, 9, 0));
+        t.setId(id);
+        return t;
+    }
+}
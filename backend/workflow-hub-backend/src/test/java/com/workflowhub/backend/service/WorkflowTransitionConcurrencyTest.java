@@ -0,0 +1,215 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.User;
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.exception.ConflictException;
+import com.workflowhub.backend.exception.ResourceNotFoundException;
+import com.workflowhub.backend.repository.WorkflowBulkRepository;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+
+/**
+ * Many admins deciding the same workflows at once: every workflow must end
+ * up with exactly one decision, and every other attempt must be told so.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({WorkflowService.class, WorkflowBulkRepository.class,
+        WorkflowTransitionLog.class, WorkflowTransitionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkflowTransitionConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int WORKFLOWS = 40;
+
+    // Clear of the ids other tests seed into the shared embedded database
+    private static final long FIRST_ID = 900_001;
+    private static final long REQUESTER = 900_001;
+
+    @Autowired
+    private WorkflowService workflowService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoBean
+    private WorkflowCounterService counterService;
+
+    @MockitoBean
+    private WorkflowSearchIndex searchIndex;
+
+    @MockitoBean
+    private WorkflowTimelineCache timelineCache;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    private final List<User> admins = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        users.add(new Object[] { REQUESTER, "Requester", "requester@example.com", "EMPLOYEE",
+                Timestamp.valueOf(now) });
+        for (int i = 1; i <= THREADS; i++) {
+            long id = REQUESTER + i;
+            users.add(new Object[] { id, "Admin " + i, "admin" + i + "@example.com", "ADMIN",
+                    Timestamp.valueOf(now) });
+
+            User admin = new User();
+            admin.setId(id);
+            admin.setEmail("admin" + i + "@example.com");
+            admins.add(admin);
+        }
+        jdbc.batchUpdate(
+                "INSERT INTO users (id, name, email, password, role, created_at) VALUES (?, ?, ?, 'x', ?, ?)",
+                users);
+
+        List<Object[]> workflows = new ArrayList<>();
+        for (int i = 0; i < WORKFLOWS; i++) {
+            workflows.add(new Object[] { FIRST_ID + i, "Request " + i, REQUESTER,
+                    Timestamp.valueOf(now) });
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO workflows (id, title, user_id, status, created_at)
+                VALUES (?, ?, ?, 'PENDING', ?)
+                """, workflows);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM workflow_transitions WHERE workflow_id >= ?", FIRST_ID);
+        jdbc.update("DELETE FROM workflows WHERE id >= ?", FIRST_ID);
+        jdbc.update("DELETE FROM users WHERE id >= ?", REQUESTER);
+    }
+
+    @Test
+    void exactlyOneDecisionWinsPerWorkflow() throws Exception {
+        Map<Long, List<WorkflowStatus>> winners = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                User admin = admins.get(t);
+                WorkflowStatus decision = t % 2 == 0 ? WorkflowStatus.APPROVED : WorkflowStatus.REJECTED;
+
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < WORKFLOWS; i++) {
+                    ids.add(FIRST_ID + i);
+                }
+                Collections.shuffle(ids);
+
+                done.add(pool.submit(() -> {
+                    start.await();
+                    for (Long id : ids) {
+                        try {
+                            if (decision == WorkflowStatus.APPROVED) {
+                                workflowService.approve(id, admin, null);
+                            } else {
+                                workflowService.reject(id, admin, null);
+                            }
+                            winners.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(decision);
+                        } catch (ConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            unexpected.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : done) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(winners).hasSize(WORKFLOWS);
+        assertThat(winners.values()).allSatisfy(w -> assertThat(w).hasSize(1));
+        assertThat(conflicts.get()).isEqualTo(WORKFLOWS * (THREADS - 1));
+
+        for (Map.Entry<Long, List<WorkflowStatus>> winner : winners.entrySet()) {
+            Map<String, Object> row = jdbc.queryForMap(
+                    "SELECT status, version FROM workflows WHERE id = ?", winner.getKey());
+            assertThat(row.get("status")).isEqualTo(winner.getValue().get(0).name());
+            assertThat(((Number) row.get("version")).longValue()).isEqualTo(1L);
+
+            // Exactly one logged transition per workflow, matching the winner
+            assertThat(jdbc.queryForList(
+                    "SELECT to_status FROM workflow_transitions WHERE workflow_id = ?",
+                    String.class, winner.getKey()))
+                    .containsExactly(winner.getValue().get(0).name());
+        }
+
+        // Counters only hear about committed winners
+        verify(counterService, times(WORKFLOWS))
+                .recordTransition(eq(REQUESTER), eq(WorkflowStatus.PENDING), any());
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        User admin = admins.get(0);
+
+        assertThatThrownBy(() -> workflowService.approve(FIRST_ID, admin, 7L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("version 7");
+
+        assertThat(workflowService.approve(FIRST_ID, admin, 0L).getVersion()).isEqualTo(1L);
+
+        assertThatThrownBy(() -> workflowService.reject(FIRST_ID, admins.get(1), 1L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already APPROVED");
+
+        verify(counterService, times(1)).recordTransition(anyLong(), any(), any());
+    }
+
+    @Test
+    void missingWorkflowIsNotFound() {
+        assertThatThrownBy(() -> workflowService.approve(1L, admins.get(0), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
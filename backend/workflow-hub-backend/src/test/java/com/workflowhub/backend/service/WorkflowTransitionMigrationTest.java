@@ -0,0 +1,119 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.entity.WorkflowTransition;
+import com.workflowhub.backend.repository.WorkflowTransitionRepository;
+
+@DataJpaTest(properties = "workflow.transitions.migrate-range=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({WorkflowTransitionMigration.class, WorkflowTransitionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkflowTransitionMigrationTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private WorkflowTransitionMigration migration;
+
+    @Autowired
+    private WorkflowTransitionRepository transitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void createLegacyTables() {
+        // The legacy entities are gone, so recreate their tables as they were
+        jdbc.execute("""
+                CREATE TABLE workflow_events (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, workflow_id BIGINT NOT NULL,
+                    status VARCHAR(255), action VARCHAR(255), performed_by VARCHAR(255),
+                    created_at TIMESTAMP(6))
+                """);
+        jdbc.execute("""
+                CREATE TABLE workflow_status_history (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, workflow_id BIGINT NOT NULL,
+                    status VARCHAR(255), action VARCHAR(255), action_by VARCHAR(255),
+                    action_at TIMESTAMP(6))
+                """);
+    }
+
+    @AfterEach
+    void dropLegacyTables() {
+        jdbc.execute("DROP TABLE workflow_events");
+        jdbc.execute("DROP TABLE workflow_status_history");
+        jdbc.update("DELETE FROM workflow_transitions");
+    }
+
+    @Test
+    void copiesBothTablesOnceAndFoldsDuplicates() {
+        // 1 is in both tables, 2 only in the old history, 3 was already logged by the new path
+        event(1, "PENDING", "CREATED", "emp@example.com", T0);
+        event(1, "APPROVED", "APPROVED", "admin@example.com", T0.plusHours(1));
+        history(1, "PENDING", "CREATED", "emp@example.com", T0);
+        history(1, "APPROVED", "APPROVED", "admin@example.com", T0.plusHours(1));
+        history(2, "PENDING", "CREATED", "emp@example.com", T0.plusMinutes(5));
+        history(2, "REJECTED", "REJECTED", "admin@example.com", T0.plusHours(2));
+        event(3, "PENDING", "CREATED", "emp@example.com", T0.plusMinutes(10));
+        transitionRepository.appendAll(List.of(new WorkflowTransition(
+                3L, null, WorkflowStatus.PENDING, "CREATED", "emp@example.com", T0.plusMinutes(10))));
+
+        assertThat(migration.migrate()).isEqualTo(4);
+        assertThat(migration.migrate()).isZero();
+
+        List<WorkflowTransition> first = transitionRepository.findByWorkflowId(1L);
+        assertThat(first).extracting(WorkflowTransition::getAction)
+                .containsExactly("CREATED", "APPROVED");
+        assertThat(first.get(0).getFromStatus()).isNull();
+        assertThat(first.get(1).getFromStatus()).isEqualTo(WorkflowStatus.PENDING);
+        assertThat(first.get(1).getPerformedBy()).isEqualTo("admin@example.com");
+
+        assertThat(transitionRepository.findByWorkflowId(2L))
+                .extracting(WorkflowTransition::getToStatus)
+                .containsExactly(WorkflowStatus.PENDING, WorkflowStatus.REJECTED);
+        assertThat(transitionRepository.findByWorkflowId(3L)).hasSize(1);
+    }
+
+    @Test
+    void skipsRowsWithoutStatusOrAction() {
+        event(1, null, "CREATED", "emp@example.com", T0);
+        history(1, "PENDING", null, "emp@example.com", T0);
+
+        assertThat(migration.migrate()).isZero();
+        assertThat(jdbc.queryForList("SELECT * FROM workflow_transitions")).isEmpty();
+    }
+
+    private void event(long workflowId, String status, String action, String by, LocalDateTime at) {
+        insert("workflow_events", "performed_by", "created_at", workflowId, status, action, by, at);
+    }
+
+    private void history(long workflowId, String status, String action, String by, LocalDateTime at) {
+        insert("workflow_status_history", "action_by", "action_at", workflowId, status, action, by, at);
+    }
+
+    private void insert(String table, String actorColumn, String timeColumn,
+                        long workflowId, String status, String action, String by, LocalDateTime at) {
+        jdbc.update("INSERT INTO " + table + " (workflow_id, status, action, " + actorColumn + ", "
+                        + timeColumn + ") VALUES (?, ?, ?, ?, ?)",
+                workflowId, status, action, by, Timestamp.valueOf(at));
+    }
+}
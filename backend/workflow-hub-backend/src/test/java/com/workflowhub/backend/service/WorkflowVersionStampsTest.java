@@ -0,0 +1,89 @@
+package com.workflowhub.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflowhub.backend.entity.WorkflowStatus;
+import com.workflowhub.backend.repository.WorkflowCounterRepository;
+
+/**
+ * Two nodes over one workflow_counters table: a change stamped on one
+ * must stop matching the other's ETags once its cached stamps expire.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkflowVersionStampsTest {
+
+    // Clear of the ids other tests seed into the shared embedded database
+    private static final long USER = 910_001;
+
+    private static final Duration TTL = Duration.ofSeconds(1);
+
+    @Autowired
+    private WorkflowCounterRepository counterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private WorkflowVersionStamps nodeA;
+    private WorkflowVersionStamps nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new WorkflowVersionStamps(counterRepository, TTL, nanos::get);
+        nodeB = new WorkflowVersionStamps(counterRepository, TTL, nanos::get);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM workflow_counters WHERE counter_key LIKE 'version:%'");
+    }
+
+    @Test
+    void changeOnOneNodeReachesTheOtherWithinTheTtl() {
+        String userBefore = nodeB.user(USER);
+        String pendingBefore = nodeB.status(WorkflowStatus.PENDING);
+
+        nodeA.created(USER, WorkflowStatus.PENDING);
+
+        // The writing node sees its own change at once
+        assertThat(nodeA.user(USER)).isNotEqualTo(userBefore);
+
+        // The other node may serve its cached stamp for up to one TTL
+        assertThat(nodeB.user(USER)).isEqualTo(userBefore);
+        nanos.addAndGet(TTL.toNanos() + 1);
+        assertThat(nodeB.user(USER)).isEqualTo(nodeA.user(USER)).isNotEqualTo(userBefore);
+        assertThat(nodeB.status(WorkflowStatus.PENDING)).isNotEqualTo(pendingBefore);
+    }
+
+    @Test
+    void stampsNeverRepeatAfterARestart() {
+        nodeA.transitioned(USER, WorkflowStatus.PENDING, WorkflowStatus.APPROVED);
+        String seen = nodeA.allStatuses();
+
+        // A fresh node starts from the stored rows, not from zero
+        WorkflowVersionStamps restarted = new WorkflowVersionStamps(counterRepository, TTL, nanos::get);
+        assertThat(restarted.allStatuses()).isEqualTo(seen);
+
+        restarted.invalidateAll();
+        nanos.addAndGet(TTL.toNanos() + 1);
+        assertThat(nodeA.allStatuses()).isNotEqualTo(seen);
+    }
+}
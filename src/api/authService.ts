@@ -5,6 +5,8 @@ import axios from "axios";
 // ================================
 export interface LoginResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
   id: number;
   name: string;
   email: string;
@@ -28,3 +30,64 @@ export const loginUser = async (data: {
   const response = await authApi.post("/auth/login", data);
   return response.data;
 };
+
+// ================================
+// REFRESH / LOGOUT
+// ================================
+export interface RefreshResponse {
+  token: string;
+  refreshToken: string;
+  expiresIn: number;
+}
+
+// Fired when the session cannot be refreshed; AuthContext signs the user out
+export const SESSION_EXPIRED_EVENT = "auth:session-expired";
+
+let refreshing: Promise<string | null> | null = null;
+
+// Serializes refreshes across tabs of the same origin, where supported
+const withRefreshLock = <T>(fn: () => Promise<T>): Promise<T> =>
+  navigator.locks ? navigator.locks.request("auth-refresh", fn) : fn();
+
+// Trades the stored refresh token for a new pair. The refresh token rotates
+// on every use, so concurrent 401s share one request instead of racing, and
+// other tabs wait for the lock and then pick up the pair this tab stored.
+// Resolves to the new access token, or null when the session is over.
+export const refreshSession = (): Promise<string | null> => {
+  if (!refreshing) {
+    refreshing = (async () => {
+      const seen = localStorage.getItem("refreshToken");
+      try {
+        return await withRefreshLock(async () => {
+          const refreshToken = localStorage.getItem("refreshToken");
+          if (!refreshToken) throw new Error("No refresh token stored");
+
+          // Another tab already rotated it while this one waited
+          if (refreshToken !== seen) return localStorage.getItem("token");
+
+          const response = await authApi.post<RefreshResponse>("/auth/refresh", {
+            refreshToken,
+          });
+          localStorage.setItem("token", response.data.token);
+          localStorage.setItem("refreshToken", response.data.refreshToken);
+          return response.data.token;
+        });
+      } catch (err) {
+        console.warn("[Auth] Session refresh failed", err);
+        localStorage.removeItem("token");
+        localStorage.removeItem("refreshToken");
+        localStorage.removeItem("user");
+        window.dispatchEvent(new Event(SESSION_EXPIRED_EVENT));
+        return null;
+      }
+    })().finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+// Revokes this session on the server; the caller clears local state
+export const logoutUser = async (refreshToken: string): Promise<void> => {
+  await authApi.post("/auth/logout", { refreshToken });
+};
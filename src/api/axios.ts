@@ -1,4 +1,5 @@
-import axios from "axios";
+import axios, { type InternalAxiosRequestConfig } from "axios";
+import { refreshSession } from "@/api/authService";
 
 const api = axios.create({
   baseURL: "http://localhost:8081/api",
@@ -19,18 +20,23 @@ api.interceptors.request.use(
 );
 
 // ================= RESPONSE INTERCEPTOR =================
+// Access tokens are short-lived: on a 401 the session is refreshed once and
+// the request retried with the new token. If the refresh fails too,
+// refreshSession signs the user out.
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     const status = error.response?.status;
-    const url = error.config?.url || "";
-
-    // 🔥 IMPORTANT: DO NOT AUTO LOGOUT HERE
-    if (status === 401) {
-      console.warn("[Axios] 401 Unauthorized from:", url);
-      // ❌ no localStorage clear
-      // ❌ no redirect
-      // ❌ no logout
+    const config = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+
+    if (status === 401 && config && !config._retried) {
+      config._retried = true;
+
+      const token = await refreshSession();
+      if (token) {
+        config.headers.Authorization = `Bearer ${token}`;
+        return api(config);
+      }
     }
 
     return Promise.reject(error);
@@ -1,7 +1,21 @@
 import axios from "@/api/axios";
 
+// Counts come from server-side counters, so no list needs to be loaded
+export interface EmployeeDashboardSummary {
+  total: number;
+  pending: number;
+  approved: number;
+  rejected: number;
+}
+
+export interface AdminDashboardSummary {
+  pending: number;
+  approved: number;
+  rejected: number;
+}
+
 export const getUserDashboardSummary = () =>
-  axios.get("/api/dashboard/user");
+  axios.get<EmployeeDashboardSummary>("/dashboard/employee");
 
 export const getAdminDashboardSummary = () =>
-  axios.get("/api/dashboard/admin");
+  axios.get<AdminDashboardSummary>("/dashboard/admin");
@@ -1,18 +1,26 @@
 import api from "@/api/axios";
+import type { CursorPage, PageParams } from "@/api/workflow_service";
 
 export interface NotificationResponse {
   id: number;
+  type: "DIRECT" | "BROADCAST";
   message: string;
   readStatus: boolean;
   createdAt: string;
 }
 
-export const getMyNotifications = () => {
-  return api.get<NotificationResponse[]>("/notifications");
+// Newest first; follow `nextCursor` for older notifications
+export const getMyNotifications = (params?: PageParams) => {
+  return api.get<CursorPage<NotificationResponse>>("/notifications", { params });
 };
 
-export const markNotificationAsRead = (id: number) => {
-  return api.put(`/notifications/${id}/read`);
+export const markNotificationAsRead = (
+  id: number,
+  type: NotificationResponse["type"] = "DIRECT"
+) => {
+  return type === "BROADCAST"
+    ? api.put(`/notifications/broadcast/${id}/read`)
+    : api.put(`/notifications/${id}/read`);
 };
 
 export const deleteNotification = (id: number) => {
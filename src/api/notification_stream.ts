@@ -0,0 +1,131 @@
+import api from "@/api/axios";
+import { refreshSession } from "@/api/authService";
+import type { NotificationResponse } from "@/api/notification_service";
+
+// EventSource cannot send an Authorization header, so the stream is read
+// with fetch and parsed here. Like EventSource, a dropped connection is
+// retried and resumes from the last event id via Last-Event-ID. A 401
+// refreshes the session first, and ends the stream if that fails.
+
+export interface NotificationStreamHandlers {
+  onNotification: (n: NotificationResponse) => void;
+  // The server could not replay everything missed; reload the list
+  onResync: () => void;
+}
+
+const RETRY_MS = 5000;
+
+interface StreamEvent {
+  id: string | null;
+  event: string;
+  data: string;
+}
+
+// Splits a text/event-stream body into events; comment lines are heartbeats
+const readEvents = async (
+  body: ReadableStream<Uint8Array>,
+  onEvent: (e: StreamEvent) => void
+) => {
+  const reader = body.getReader();
+  const decoder = new TextDecoder();
+
+  let buffer = "";
+  let id: string | null = null;
+  let event = "message";
+  let data: string[] = [];
+
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+
+    buffer += decoder.decode(value, { stream: true });
+
+    let newline: number;
+    while ((newline = buffer.indexOf("\n")) >= 0) {
+      const line = buffer.slice(0, newline).replace(/\r$/, "");
+      buffer = buffer.slice(newline + 1);
+
+      if (line === "") {
+        if (data.length > 0 || id !== null) {
+          onEvent({ id, event, data: data.join("\n") });
+        }
+        id = null;
+        event = "message";
+        data = [];
+        continue;
+      }
+      if (line.startsWith(":")) continue;
+
+      const colon = line.indexOf(":");
+      const field = colon < 0 ? line : line.slice(0, colon);
+      let val = colon < 0 ? "" : line.slice(colon + 1);
+      if (val.startsWith(" ")) val = val.slice(1);
+
+      if (field === "id") id = val;
+      else if (field === "event") event = val;
+      else if (field === "data") data.push(val);
+    }
+  }
+};
+
+const sleep = (ms: number, signal: AbortSignal) =>
+  new Promise<void>(resolve => {
+    const timer = setTimeout(resolve, ms);
+    signal.addEventListener("abort", () => {
+      clearTimeout(timer);
+      resolve();
+    });
+  });
+
+// Opens the stream and keeps it open; call the returned function to stop
+export const openNotificationStream = (
+  handlers: NotificationStreamHandlers
+): (() => void) => {
+  const controller = new AbortController();
+  let lastEventId: string | null = null;
+
+  const run = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers: Record<string, string> = {
+          Accept: "text/event-stream",
+        };
+        const token = localStorage.getItem("token");
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+
+        const res = await fetch(`${api.defaults.baseURL}/notifications/stream`, {
+          headers,
+          signal: controller.signal,
+        });
+
+        if (res.status === 401) {
+          // Access token expired; reconnect right away with a fresh one
+          if (await refreshSession()) continue;
+          return;
+        }
+
+        if (res.ok && res.body) {
+          await readEvents(res.body, e => {
+            if (e.id !== null) lastEventId = e.id;
+
+            if (e.event === "notification" && e.data) {
+              handlers.onNotification(JSON.parse(e.data));
+            } else if (e.event === "resync") {
+              handlers.onResync();
+            }
+          });
+        }
+      } catch (err) {
+        if (controller.signal.aborted) return;
+        console.warn("[Notifications] stream dropped, retrying");
+      }
+
+      await sleep(RETRY_MS, controller.signal);
+    }
+  };
+
+  run();
+
+  return () => controller.abort();
+};
@@ -20,15 +20,44 @@ export interface WorkflowResponse {
   status: "pending" | "approved" | "rejected";
   createdAt: string;
   approvedAt?: string | null; // 🔥 ADD THIS
+  user?: WorkflowUserRef;
+  approvedBy?: WorkflowUserRef | null;
 }
 
+export interface WorkflowUserRef {
+  id: number;
+  name: string;
+  email: string;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
+export interface PageParams {
+  cursor?: string;
+  size?: number;
+}
+
+// List endpoints are keyset-paginated; callers get the current page's items
+// as `data` and can follow `nextCursor` for the rest.
+const unwrapPage = <T>(res: { data: CursorPage<T> }) => ({
+  ...res,
+  data: res.data.items,
+  nextCursor: res.data.nextCursor,
+});
 
-export const getUserWorkflows = () => {
-  return axiosInstance.get<WorkflowResponse[]>("/workflows/my");
+export const getUserWorkflows = (params?: PageParams) => {
+  return axiosInstance
+    .get<CursorPage<WorkflowResponse>>("/workflows/my", { params })
+    .then(unwrapPage);
 };
 
-export const getPendingApprovals = () => {
-  return axiosInstance.get<WorkflowResponse[]>("/admin/workflows/pending");
+export const getPendingApprovals = (params?: PageParams) => {
+  return axiosInstance
+    .get<CursorPage<WorkflowResponse>>("/admin/workflows/pending", { params })
+    .then(unwrapPage);
 };
 
 export const createWorkflow = (payload: CreateWorkflowPayload) => {
@@ -1,11 +1,14 @@
 import { Bell } from "lucide-react";
 import { useState } from "react";
-import { useNotifications } from "@/contexts/NotificationContext";
+import {
+  notificationKey,
+  useNotifications,
+} from "@/contexts/NotificationContext";
 import { formatDistanceToNow } from "date-fns";
 import { Link } from "react-router-dom";
 
 export default function NotificationBell() {
-  const { notifications, unreadCount } = useNotifications();
+  const { notifications, unreadCount, markRead } = useNotifications();
   const [open, setOpen] = useState(false);
 
   return (
@@ -32,9 +35,10 @@ export default function NotificationBell() {
           <div className="max-h-64 overflow-y-auto">
             {notifications.slice(0, 5).map((n) => (
               <div
-                key={n.id}
+                key={notificationKey(n)}
+                onClick={() => markRead(n)}
                 className={`p-3 text-sm border-b ${
-                  !n.readStatus ? "bg-muted" : ""
+                  !n.readStatus ? "bg-muted cursor-pointer" : ""
                 }`}
               >
                 <p>{n.message}</p>
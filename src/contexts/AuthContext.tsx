@@ -6,7 +6,12 @@ import React, {
   useCallback,
   ReactNode,
 } from "react";
-import { loginUser, LoginResponse } from "@/api/authService";
+import {
+  loginUser,
+  logoutUser,
+  LoginResponse,
+  SESSION_EXPIRED_EVENT,
+} from "@/api/authService";
 import { toast } from "sonner";
 
 /* ============================================================
@@ -79,9 +84,20 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
       console.error("[Auth] Failed to restore session", err);
       localStorage.removeItem("user");
       localStorage.removeItem("token");
+      localStorage.removeItem("refreshToken");
     }
   }, []);
 
+  /* ------------------------------------------------------------
+     SESSION EXPIRED (refresh token rejected)
+     ------------------------------------------------------------ */
+
+  useEffect(() => {
+    const onExpired = () => setUser(null);
+    window.addEventListener(SESSION_EXPIRED_EVENT, onExpired);
+    return () => window.removeEventListener(SESSION_EXPIRED_EVENT, onExpired);
+  }, []);
+
   /* ------------------------------------------------------------
      LOGIN
      ------------------------------------------------------------ */
@@ -98,6 +114,7 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
       }
 
       localStorage.setItem("token", data.token);
+      localStorage.setItem("refreshToken", data.refreshToken);
 
       /* ---------------- USER ---------------- */
       const userData: User = {
@@ -131,8 +148,17 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
     console.trace("Logout called");
     console.groupEnd();
 
+    // Revoke the session server-side; local state is cleared either way
+    const refreshToken = localStorage.getItem("refreshToken");
+    if (refreshToken) {
+      logoutUser(refreshToken).catch((err) =>
+        console.warn("[Auth] Logout request failed", err)
+      );
+    }
+
     setUser(null);
     localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
     localStorage.removeItem("user");
   }, []);
 
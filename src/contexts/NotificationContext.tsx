@@ -1,18 +1,39 @@
 import React, { createContext, useContext, useEffect, useState } from "react";
-import { getMyNotifications } from "@/api/notification_service";
+import {
+  getMyNotifications,
+  markNotificationAsRead,
+} from "@/api/notification_service";
+import type { NotificationResponse } from "@/api/notification_service";
+import { openNotificationStream } from "@/api/notification_stream";
 import { useAuth } from "@/contexts/AuthContext";
 
-export interface NotificationResponse {
-  id: number;
-  message: string;
-  readStatus: boolean;
-  createdAt: string;
+export type { NotificationResponse };
+
+// DIRECT and BROADCAST ids come from different tables
+export const notificationKey = (n: NotificationResponse) => `${n.type}-${n.id}`;
+
+// Same order as the server's keyset: (createdAt, id) descending
+const isOlder = (a: NotificationResponse, b: NotificationResponse) => {
+  const at = new Date(a.createdAt).getTime();
+  const bt = new Date(b.createdAt).getTime();
+  return at < bt || (at === bt && a.id < b.id);
+};
+
+interface LoadedNotifications {
+  items: NotificationResponse[];
+  nextCursor: string | null;
 }
 
+// The stream delivers new notifications; polling only repairs gaps
+const POLL_MS = 120000;
+
 interface NotificationContextType {
   notifications: NotificationResponse[];
   unreadCount: number;
+  hasMore: boolean;
   refresh: () => Promise<void>;
+  loadMore: () => Promise<void>;
+  markRead: (n: NotificationResponse) => Promise<void>;
 }
 
 const NotificationContext = createContext<NotificationContextType | undefined>(
@@ -23,36 +44,113 @@ export const NotificationProvider: React.FC<{
   children: React.ReactNode;
 }> = ({ children }) => {
   const { isAuthenticated } = useAuth();
-  const [notifications, setNotifications] = useState<NotificationResponse[]>([]);
+  const [loaded, setLoaded] = useState<LoadedNotifications>({
+    items: [],
+    nextCursor: null,
+  });
+  const notifications = loaded.items;
 
+  // Reloads the newest page; older pages the user already loaded are kept
   const fetchNotifications = async () => {
     if (!isAuthenticated) return;
 
     try {
-      const res = await getMyNotifications();
-      setNotifications(res.data);
+      const { data: page } = await getMyNotifications();
+      setLoaded(prev => {
+        const oldest = page.items[page.items.length - 1];
+        if (!page.nextCursor || !oldest) {
+          return { items: page.items, nextCursor: null };
+        }
+
+        const older = prev.items.filter(p => isOlder(p, oldest));
+        return older.length > 0
+          ? { items: [...page.items, ...older], nextCursor: prev.nextCursor }
+          : { items: page.items, nextCursor: page.nextCursor };
+      });
     } catch (err) {
       console.warn("Notification fetch failed");
     }
   };
 
+  // Appends the next keyset page after the last one loaded
+  const loadMore = async () => {
+    if (!loaded.nextCursor) return;
+
+    try {
+      const { data: page } = await getMyNotifications({
+        cursor: loaded.nextCursor,
+      });
+      setLoaded(prev => {
+        const seen = new Set(prev.items.map(notificationKey));
+        return {
+          items: [
+            ...prev.items,
+            ...page.items.filter(n => !seen.has(notificationKey(n))),
+          ],
+          nextCursor: page.nextCursor,
+        };
+      });
+    } catch (err) {
+      console.warn("Loading older notifications failed");
+    }
+  };
+
   useEffect(() => {
     if (!isAuthenticated) {
-      setNotifications([]);
+      setLoaded({ items: [], nextCursor: null });
       return;
     }
 
     fetchNotifications();
 
-    const interval = setInterval(fetchNotifications, 20000);
-    return () => clearInterval(interval);
+    const closeStream = openNotificationStream({
+      onNotification: n =>
+        setLoaded(prev =>
+          prev.items.some(p => notificationKey(p) === notificationKey(n))
+            ? prev
+            : { ...prev, items: [n, ...prev.items] }
+        ),
+      onResync: fetchNotifications,
+    });
+
+    const interval = setInterval(fetchNotifications, POLL_MS);
+    return () => {
+      closeStream();
+      clearInterval(interval);
+    };
   }, [isAuthenticated]);
 
+  // Broadcasts get a per-user receipt; direct rows are flagged in place
+  const markRead = async (n: NotificationResponse) => {
+    if (n.readStatus) return;
+
+    try {
+      await markNotificationAsRead(n.id, n.type);
+      setLoaded(prev => ({
+        ...prev,
+        items: prev.items.map(p =>
+          notificationKey(p) === notificationKey(n)
+            ? { ...p, readStatus: true }
+            : p
+        ),
+      }));
+    } catch (err) {
+      console.warn("Marking notification as read failed");
+    }
+  };
+
   const unreadCount = notifications.filter(n => !n.readStatus).length;
 
   return (
     <NotificationContext.Provider
-      value={{ notifications, unreadCount, refresh: fetchNotifications }}
+      value={{
+        notifications,
+        unreadCount,
+        hasMore: loaded.nextCursor !== null,
+        refresh: fetchNotifications,
+        loadMore,
+        markRead,
+      }}
     >
       {children}
     </NotificationContext.Provider>
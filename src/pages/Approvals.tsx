@@ -66,34 +66,59 @@ export default function Approvals() {
   const [searchQuery, setSearchQuery] = useState("");
   const [processingIds, setProcessingIds] = useState<Set<string>>(new Set());
 
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const toApproval = (w: BackendWorkflow): ApprovalRequest => ({
+    id: String(w.id ?? ""),
+    title: w.title ?? "Untitled Request",
+    description: w.description ?? "",
+    type: String(w.type ?? "leave").toLowerCase(),
+    createdAt: w.createdAt ?? new Date().toISOString(),
+    createdBy: {
+      name: w.user?.name ?? "Unknown",
+      department: w.user?.department || "N/A",
+    },
+    isOverdue: Boolean(w.isOverdue ?? false),
+  });
+
   /* ================= HELPER: REFRESH ================= */
 
+  // Reloads from the first page; decided items drop out of the pending list
   const refreshPendingApprovals = async () => {
   try {
     const res = await getPendingApprovals();
     const data = Array.isArray(res.data) ? res.data : [];
 
-    const mapped: ApprovalRequest[] = data.map((w: BackendWorkflow) => ({
-      id: String(w.id ?? ""),
-      title: w.title ?? "Untitled Request",
-      description: w.description ?? "",
-      type: String(w.type ?? "leave").toLowerCase(),
-      createdAt: w.createdAt ?? new Date().toISOString(),
-      createdBy: {
-        name: w.user?.name ?? "Unknown",
-        department: w.user?.department || "N/A",
-      },
-      isOverdue: Boolean(w.isOverdue ?? false),
-    }));
-
-    setRequests(mapped);
+    setRequests(data.map(toApproval));
+    setNextCursor(res.nextCursor ?? null);
   } catch (err) {
     console.error("[Approvals] Refresh error:", err);
     toast.error("Failed to refresh approvals");
     setRequests([]);
+    setNextCursor(null);
   }
 };
 
+  const loadMore = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setLoadingMore(true);
+
+      const res = await getPendingApprovals({ cursor: nextCursor });
+      const data = Array.isArray(res.data) ? res.data : [];
+
+      setRequests((prev) => [...prev, ...data.map(toApproval)]);
+      setNextCursor(res.nextCursor ?? null);
+    } catch (err) {
+      console.error("[Approvals] Load more error:", err);
+      toast.error("Failed to load more approvals");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
 
   /* ================= FETCH ================= */
 
@@ -332,6 +357,21 @@ export default function Approvals() {
             ))
           )}
         </div>
+
+        {nextCursor && (
+          <div className="flex justify-center">
+            <Button
+              variant="outline"
+              onClick={loadMore}
+              disabled={loadingMore}
+            >
+              {loadingMore && (
+                <Loader2 className="h-4 w-4 mr-2 animate-spin" />
+              )}
+              Load more
+            </Button>
+          </div>
+        )}
       </div>
     </DashboardLayout>
   );
@@ -33,6 +33,14 @@ import {
 
 import type { WorkflowResponse } from "@/api/workflow_service";
 import { getUserWorkflows } from "@/api/workflow_service";
+import type {
+  AdminDashboardSummary,
+  EmployeeDashboardSummary,
+} from "@/api/dashboard_service";
+import {
+  getAdminDashboardSummary,
+  getUserDashboardSummary,
+} from "@/api/dashboard_service";
 
 /* =========================================================
    TYPES (UI MODELS ONLY)
@@ -51,21 +59,22 @@ export interface Request {
   priority: "low" | "medium" | "high";
 }
 
+// Only the newest few requests are shown; counts come from the summary
+const RECENT_SIZE = 3;
+
 /* =========================================================
    EMPLOYEE DASHBOARD
    ========================================================= */
 
 function EmployeeDashboard({
-  requests,
+  summary,
+  recent,
   loading,
 }: {
-  requests: Request[];
+  summary: EmployeeDashboardSummary | null;
+  recent: Request[];
   loading: boolean;
 }) {
-  const pendingCount = requests.filter(r => r.status === "pending").length;
-  const approvedCount = requests.filter(r => r.status === "approved").length;
-  const rejectedCount = requests.filter(r => r.status === "rejected").length;
-
   if (loading) {
     return (
       <div className="flex items-center justify-center py-20">
@@ -95,10 +104,10 @@ function EmployeeDashboard({
 
       {/* Stats */}
       <div className="grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-4 gap-4">
-        <StatCard title="Total" value={requests.length} icon={FileText} />
-        <StatCard title="Pending" value={pendingCount} icon={Clock} />
-        <StatCard title="Approved" value={approvedCount} icon={CheckCircle2} />
-        <StatCard title="Rejected" value={rejectedCount} icon={XCircle} />
+        <StatCard title="Total" value={summary?.total ?? 0} icon={FileText} />
+        <StatCard title="Pending" value={summary?.pending ?? 0} icon={Clock} />
+        <StatCard title="Approved" value={summary?.approved ?? 0} icon={CheckCircle2} />
+        <StatCard title="Rejected" value={summary?.rejected ?? 0} icon={XCircle} />
       </div>
 
       {/* Recent Requests */}
@@ -112,7 +121,7 @@ function EmployeeDashboard({
           </Link>
         </div>
 
-        {requests.length === 0 ? (
+        {recent.length === 0 ? (
           <div className="text-center py-16">
             <FileText className="h-12 w-12 mx-auto text-muted-foreground mb-4" />
             <p className="text-muted-foreground">
@@ -121,7 +130,7 @@ function EmployeeDashboard({
           </div>
         ) : (
           <div className="space-y-4">
-            {requests.slice(0, 3).map(req => (
+            {recent.map(req => (
               <RequestCard key={req.id} request={req} />
             ))}
           </div>
@@ -140,10 +149,10 @@ interface AnalyticsData {
   requestsByStatus: { name: string; value: number }[];
 }
 
-function buildAnalytics(requests: Request[]): AnalyticsData {
-  const pending = requests.filter(r => r.status === "pending").length;
-  const approved = requests.filter(r => r.status === "approved").length;
-  const rejected = requests.filter(r => r.status === "rejected").length;
+function buildAnalytics(summary: AdminDashboardSummary | null): AnalyticsData {
+  const pending = summary?.pending ?? 0;
+  const approved = summary?.approved ?? 0;
+  const rejected = summary?.rejected ?? 0;
 
   return {
     approvalTrend: [
@@ -162,10 +171,10 @@ function buildAnalytics(requests: Request[]): AnalyticsData {
 }
 
 function AdminDashboard({
-  requests,
+  summary,
   loading,
 }: {
-  requests: Request[];
+  summary: AdminDashboardSummary | null;
   loading: boolean;
 }) {
   if (loading) {
@@ -176,7 +185,7 @@ function AdminDashboard({
     );
   }
 
-  const analytics = buildAnalytics(requests);
+  const analytics = buildAnalytics(summary);
   const colors = ["#facc15", "#22c55e", "#ef4444"];
 
   return (
@@ -229,7 +238,11 @@ function AdminDashboard({
 export default function Dashboard() {
   const { user } = useAuth();
 
-  const [requests, setRequests] = useState<Request[]>([]);
+  const [employeeSummary, setEmployeeSummary] =
+    useState<EmployeeDashboardSummary | null>(null);
+  const [adminSummary, setAdminSummary] =
+    useState<AdminDashboardSummary | null>(null);
+  const [recent, setRecent] = useState<Request[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
 
@@ -239,13 +252,26 @@ export default function Dashboard() {
       return;
     }
 
-    const fetchRequests = async () => {
+    const isAdmin = user.role === "ADMIN";
+
+    const fetchDashboard = async () => {
       try {
         setLoading(true);
         setError(null);
 
-        const res = await getUserWorkflows();
-        const data = Array.isArray(res.data) ? res.data : [];
+        if (isAdmin) {
+          const res = await getAdminDashboardSummary();
+          setAdminSummary(res.data);
+          return;
+        }
+
+        // Totals from the counters, plus one small page for "recent"
+        const [summaryRes, recentRes] = await Promise.all([
+          getUserDashboardSummary(),
+          getUserWorkflows({ size: RECENT_SIZE }),
+        ]);
+
+        const data = Array.isArray(recentRes.data) ? recentRes.data : [];
 
         const mapped: Request[] = data.map(
           (r: WorkflowResponse): Request => ({
@@ -260,17 +286,20 @@ export default function Dashboard() {
           })
         );
 
-        setRequests(mapped);
+        setEmployeeSummary(summaryRes.data);
+        setRecent(mapped);
       } catch (err) {
         setError("Failed to load dashboard");
-        setRequests([]);
+        setEmployeeSummary(null);
+        setAdminSummary(null);
+        setRecent([]);
       } finally {
         setLoading(false);
       }
     };
 
-    fetchRequests();
-  }, [user?.id]);
+    fetchDashboard();
+  }, [user?.id, user?.role]);
 
   if (!user) return null;
 
@@ -285,11 +314,15 @@ export default function Dashboard() {
       )}
 
       {role === "EMPLOYEE" && (
-        <EmployeeDashboard requests={requests} loading={loading} />
+        <EmployeeDashboard
+          summary={employeeSummary}
+          recent={recent}
+          loading={loading}
+        />
       )}
 
       {role === "ADMIN" && (
-        <AdminDashboard requests={requests} loading={loading} />
+        <AdminDashboard summary={adminSummary} loading={loading} />
       )}
 
       {!["EMPLOYEE", "ADMIN"].includes(role) && (
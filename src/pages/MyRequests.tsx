@@ -42,6 +42,18 @@ export default function MyRequests() {
   const [requests, setRequests] = useState<RequestItem[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const toItem = (r: WorkflowResponse): RequestItem => ({
+    id: String(r.id),
+    title: r.title ?? "Untitled Request",
+    description: r.description ?? "",
+    type: (r.type ?? "leave") as RequestType,
+    status: (r.status ?? "PENDING").toLowerCase() as RequestStatus,
+    createdAt: r.createdAt,
+    approvedAt: r.approvedAt ?? null,
+  });
 
   /* ================= FETCH FUNCTION (🔥 KEY FIX) ================= */
 
@@ -53,29 +65,39 @@ export default function MyRequests() {
       const res = await getUserWorkflows();
       const data = Array.isArray(res.data) ? res.data : [];
 
-      const mapped: RequestItem[] = data.map(
-        (r: WorkflowResponse) => ({
-          id: String(r.id),
-          title: r.title ?? "Untitled Request",
-          description: r.description ?? "",
-          type: (r.type ?? "leave") as RequestType,
-          status: (r.status ?? "PENDING").toLowerCase() as RequestStatus,
-          createdAt: r.createdAt,
-          approvedAt: r.approvedAt ?? null,
-        })
-      );
-
-      setRequests(mapped);
+      setRequests(data.map(toItem));
+      setNextCursor(res.nextCursor ?? null);
     } catch (err) {
       const e = err as AxiosError;
       console.error("[MyRequests] API error:", e);
       setError("Failed to load requests. Please try again.");
       setRequests([]);
+      setNextCursor(null);
     } finally {
       setLoading(false);
     }
   };
 
+  // Appends the next keyset page after the last one loaded
+  const loadMore = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setLoadingMore(true);
+
+      const res = await getUserWorkflows({ cursor: nextCursor });
+      const data = Array.isArray(res.data) ? res.data : [];
+
+      setRequests((prev) => [...prev, ...data.map(toItem)]);
+      setNextCursor(res.nextCursor ?? null);
+    } catch (err) {
+      console.error("[MyRequests] Load more error:", err);
+      setError("Failed to load more requests. Please try again.");
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   /* ================= USE EFFECT ================= */
 
   useEffect(() => {
@@ -214,6 +236,21 @@ export default function MyRequests() {
                 )}
               </Tabs>
             )}
+
+            {nextCursor && (
+              <div className="flex justify-center">
+                <Button
+                  variant="outline"
+                  onClick={loadMore}
+                  disabled={loadingMore}
+                >
+                  {loadingMore && (
+                    <Loader2 className="h-4 w-4 mr-2 animate-spin" />
+                  )}
+                  Load more
+                </Button>
+              </div>
+            )}
           </>
         )}
       </div>
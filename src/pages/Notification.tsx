@@ -1,9 +1,25 @@
 import { DashboardLayout } from "@/components/layout/DashboardLayout";
-import { useNotifications } from "@/contexts/NotificationContext";
+import {
+  notificationKey,
+  useNotifications,
+} from "@/contexts/NotificationContext";
+import { Button } from "@/components/ui/button";
+import { Loader2 } from "lucide-react";
 import { formatDistanceToNow } from "date-fns";
+import { useState } from "react";
 
 export default function Notifications() {
-  const { notifications } = useNotifications();
+  const { notifications, hasMore, loadMore, markRead } = useNotifications();
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const showOlder = async () => {
+    setLoadingMore(true);
+    try {
+      await loadMore();
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
   return (
     <DashboardLayout>
@@ -12,9 +28,10 @@ export default function Notifications() {
 
         {notifications.map((n) => (
           <div
-            key={n.id}
+            key={notificationKey(n)}
+            onClick={() => markRead(n)}
             className={`p-4 border rounded-lg ${
-              !n.readStatus ? "bg-muted" : ""
+              !n.readStatus ? "bg-muted cursor-pointer" : ""
             }`}
           >
             <p>{n.message}</p>
@@ -26,6 +43,21 @@ export default function Notifications() {
           </div>
         ))}
 
+        {hasMore && (
+          <div className="flex justify-center">
+            <Button
+              variant="outline"
+              onClick={showOlder}
+              disabled={loadingMore}
+            >
+              {loadingMore && (
+                <Loader2 className="h-4 w-4 mr-2 animate-spin" />
+              )}
+              Load older
+            </Button>
+          </div>
+        )}
+
         {notifications.length === 0 && (
           <p className="text-muted-foreground">
             No notifications yet